@@ -0,0 +1,50 @@
+package com.comp2042.benchmark;
+
+import java.util.Random;
+
+/**
+ * Board fill levels used to parameterize the benchmarks.
+ * Filled rows always keep one hole, so a prepared board never contains a full row.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public enum BoardFill {
+    EMPTY(0.0),
+    HALF(0.5),
+    /** Filled up to just below the spawn area. */
+    NEAR_TOP(1.0);
+
+    private static final int SPAWN_ROWS = 6;
+    private static final long SEED = 2042L;
+
+    private final double fraction;
+
+    BoardFill(double fraction) {
+        this.fraction = fraction;
+    }
+
+    /**
+     * Creates a board matrix at this fill level.
+     * The same arguments always produce the same board.
+     *
+     * @param rows Number of rows
+     * @param columns Number of columns
+     * @return New matrix indexed as [row][column]
+     */
+    public int[][] create(int rows, int columns) {
+        int[][] matrix = new int[rows][columns];
+        int filledRows = (int) ((rows - SPAWN_ROWS) * fraction);
+        Random random = new Random(SEED);
+        for (int row = rows - filledRows; row < rows; row++) {
+            int hole = random.nextInt(columns);
+            for (int column = 0; column < columns; column++) {
+                if (column != hole) {
+                    matrix[row][column] = 1 + random.nextInt(7);
+                }
+            }
+        }
+        return matrix;
+    }
+}
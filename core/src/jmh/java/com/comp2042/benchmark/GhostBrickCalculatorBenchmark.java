@@ -0,0 +1,81 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.constants.GameConstants;
+import com.comp2042.logic.bricks.BrickFactory;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.model.game.GhostBrickCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the three ghost landing-row strategies:
+ * scanning with a brick matrix, scanning with a BrickShape
+ * and the column-height profile.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GhostBrickCalculatorBenchmark {
+
+    @Param
+    public BoardFill fill;
+
+    @Param
+    public BrickFactory.BrickType brickType;
+
+    private int[][] board;
+    private int[] columnHeights;
+    private int[][] brickMatrix;
+    private BrickShape shape;
+
+    @Setup
+    public void setUp() {
+        board = fill.create(25, 10);
+        columnHeights = new int[board[0].length];
+        for (int column = 0; column < columnHeights.length; column++) {
+            int row = 0;
+            while (row < board.length && board[row][column] == 0) {
+                row++;
+            }
+            columnHeights[column] = board.length - row;
+        }
+        shape = BrickFactory.getShape(brickType, 0);
+        brickMatrix = shape.toMatrix();
+    }
+
+    @Benchmark
+    public int landingMatrixScan() {
+        return GhostBrickCalculator.calculateLandingY(board, brickMatrix,
+                GameConstants.BRICK_SPAWN_X, GameConstants.BRICK_SPAWN_Y);
+    }
+
+    @Benchmark
+    public int landingShapeScan() {
+        return GhostBrickCalculator.calculateLandingY(board, shape,
+                GameConstants.BRICK_SPAWN_X, GameConstants.BRICK_SPAWN_Y);
+    }
+
+    @Benchmark
+    public int landingColumnHeights() {
+        return GhostBrickCalculator.calculateLandingY(board, columnHeights, shape,
+                GameConstants.BRICK_SPAWN_X, GameConstants.BRICK_SPAWN_Y);
+    }
+}
@@ -0,0 +1,85 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.ClearRow;
+import com.comp2042.constants.GameConstants;
+import com.comp2042.logic.bricks.BrickFactory;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.model.game.GhostBrickCalculator;
+import com.comp2042.utils.MatrixOperations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the static matrix helpers, comparing the int[][] brick
+ * overloads with the precomputed BrickShape ones.
+ * Each brick is placed at the spawn column on the row where it would land.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixOperationsBenchmark {
+
+    @Param
+    public BoardFill fill;
+
+    @Param
+    public BrickFactory.BrickType brickType;
+
+    private int[][] board;
+    private int[][] brickMatrix;
+    private BrickShape shape;
+    private int x;
+    private int y;
+
+    @Setup
+    public void setUp() {
+        board = fill.create(25, 10);
+        shape = BrickFactory.getShape(brickType, 0);
+        brickMatrix = shape.toMatrix();
+        x = GameConstants.BRICK_SPAWN_X;
+        y = GhostBrickCalculator.calculateLandingY(board, shape, x, GameConstants.BRICK_SPAWN_Y);
+    }
+
+    @Benchmark
+    public boolean intersectMatrix() {
+        return MatrixOperations.intersect(board, brickMatrix, x, y + 1);
+    }
+
+    @Benchmark
+    public boolean intersectShape() {
+        return MatrixOperations.intersect(board, shape, x, y + 1);
+    }
+
+    @Benchmark
+    public int[][] mergeMatrix() {
+        return MatrixOperations.merge(board, brickMatrix, x, y);
+    }
+
+    @Benchmark
+    public int[][] mergeShape() {
+        return MatrixOperations.merge(board, shape, x, y);
+    }
+
+    @Benchmark
+    public ClearRow checkRemoving() {
+        return MatrixOperations.checkRemoving(board);
+    }
+}
@@ -0,0 +1,121 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.ClearRow;
+import com.comp2042.Data.FrameSnapshot;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickFactory;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.model.game.SimpleBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks one full drop cycle on a SimpleBoard: spawn, shift to a column,
+ * fall to the floor one row at a time while publishing a frame snapshot like
+ * the GUI does, merge and clear. Drops rotate over the columns and pile up like
+ * in play, so clearRows only inspects the rows the brick touched. When the
+ * stack reaches the spawn area the board is restored to the fill level inside
+ * the measured call; that reset is rare and part of the cost, as a new game is
+ * in play. Only bricks of the benchmarked type are dealt.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleBoardBenchmark {
+
+    @Param
+    public BoardFill fill;
+
+    @Param
+    public BrickFactory.BrickType brickType;
+
+    /** Column steps between consecutive drops, so the stack spreads across the well. */
+    private static final int COLUMN_STEP = 3;
+
+    private SimpleBoard board;
+    private int[][] start;
+    private int drop;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        Brick brick = BrickFactory.createBrick(brickType);
+        board = new SimpleBoard(25, 10, new SingleTypeGenerator(brick), 0L);
+        board.newGame();
+        start = fill.create(25, 10);
+        restore();
+    }
+
+    @Benchmark
+    public ClearRow dropCycle(Blackhole blackhole) {
+        if (board.createNewBrick()) {
+            restore();
+            board.createNewBrick();
+        }
+        FrameSnapshot spawned = board.getFrameSnapshot();
+        blackhole.consume(spawned);
+        int target = (drop++ * COLUMN_STEP) % 10;
+        int x = spawned.getxPosition();
+        while (x < target && board.moveBrickRight()) {
+            x++;
+        }
+        while (x > target && board.moveBrickLeft()) {
+            x--;
+        }
+        while (board.moveBrickDown()) {
+            blackhole.consume(board.getFrameSnapshot());
+        }
+        board.mergeBrickToBackground();
+        return board.clearRows();
+    }
+
+    /**
+     * Loads the fill level and settles the row caches as after the first lock of
+     * a game: loadMatrix marks every row, and one clear with no full rows resets that.
+     */
+    private void restore() {
+        board.loadMatrix(start);
+        board.clearRows();
+    }
+
+    /**
+     * Generator that always deals the same brick.
+     */
+    private static final class SingleTypeGenerator implements BrickGenerator {
+
+        private final Brick brick;
+
+        SingleTypeGenerator(Brick brick) {
+            this.brick = brick;
+        }
+
+        @Override
+        public Brick getBrick() {
+            return brick;
+        }
+
+        @Override
+        public Brick getNextBrick() {
+            return brick;
+        }
+    }
+}
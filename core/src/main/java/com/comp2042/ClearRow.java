@@ -0,0 +1,53 @@
+package com.comp2042;
+
+import com.comp2042.utils.MatrixOperations;
+
+public final class ClearRow {
+
+    private static final int[] NO_ROWS = new int[0];
+
+    private final int linesRemoved;
+    private final int[][] newMatrix;
+    private final int scoreBonus;
+    private final int[] clearedRows;
+
+    public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus) {
+        this(linesRemoved, newMatrix, scoreBonus, NO_ROWS);
+    }
+
+    /**
+     * Creates a clear result that also records which rows were removed.
+     *
+     * @param linesRemoved Number of rows removed
+     * @param newMatrix Board after removal; copied here, so later moves do not change the result
+     * @param scoreBonus Score awarded for the clear
+     * @param clearedRows Indices of the removed rows, top to bottom, before compaction
+     */
+    public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus, int[] clearedRows) {
+        this.linesRemoved = linesRemoved;
+        this.newMatrix = MatrixOperations.copy(newMatrix);
+        this.scoreBonus = scoreBonus;
+        this.clearedRows = clearedRows;
+    }
+
+    public int getLinesRemoved() {
+        return linesRemoved;
+    }
+
+    public int[][] getNewMatrix() {
+        return MatrixOperations.copy(newMatrix);
+    }
+
+    public int getScoreBonus() {
+        return scoreBonus;
+    }
+
+    /**
+     * Gets the indices of the removed rows as they were before compaction.
+     *
+     * @return Row indices, top to bottom
+     */
+    public int[] getClearedRows() {
+        return clearedRows.clone();
+    }
+}
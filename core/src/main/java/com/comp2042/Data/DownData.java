@@ -4,18 +4,18 @@ import com.comp2042.ClearRow;
 
 public final class DownData {
     private final ClearRow clearRow;
-    private final ViewData viewData;
+    private final FrameSnapshot frame;
 
-    public DownData(ClearRow clearRow, ViewData viewData) {
+    public DownData(ClearRow clearRow, FrameSnapshot frame) {
         this.clearRow = clearRow;
-        this.viewData = viewData;
+        this.frame = frame;
     }
 
     public ClearRow getClearRow() {
         return clearRow;
     }
 
-    public ViewData getViewData() {
-        return viewData;
+    public FrameSnapshot getFrameSnapshot() {
+        return frame;
     }
 }
@@ -0,0 +1,48 @@
+package com.comp2042.Data;
+
+import com.comp2042.logic.bricks.BrickShape;
+
+/**
+ * Double buffer of frame snapshots owned by a board.
+ * Each publish fills the back snapshot and swaps it to the front,
+ * so building a frame after every input allocates nothing.
+ * Not thread-safe; boards are driven from a single thread.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public final class FrameBuffer {
+
+    private FrameSnapshot front = new FrameSnapshot();
+    private FrameSnapshot back = new FrameSnapshot();
+    private long frame;
+
+    /**
+     * Publishes a new frame.
+     *
+     * @param shape Rotation state of the falling brick
+     * @param xPosition Column of the falling brick
+     * @param yPosition Row of the falling brick
+     * @param ghostYPosition Landing row of the falling brick
+     * @param nextShape Spawn rotation of the next brick
+     * @return The new front snapshot
+     */
+    public FrameSnapshot publish(BrickShape shape, int xPosition, int yPosition, int ghostYPosition,
+                                 BrickShape nextShape) {
+        back.set(shape, xPosition, yPosition, ghostYPosition, nextShape, ++frame);
+        FrameSnapshot published = back;
+        back = front;
+        front = published;
+        return published;
+    }
+
+    /**
+     * Gets the most recently published snapshot.
+     *
+     * @return Front snapshot, or null before the first publish
+     */
+    public FrameSnapshot current() {
+        return frame == 0 ? null : front;
+    }
+}
@@ -0,0 +1,94 @@
+package com.comp2042.Data;
+
+import com.comp2042.logic.bricks.BrickFactory;
+import com.comp2042.logic.bricks.BrickShape;
+
+/**
+ * Read-only view of everything the renderer needs for one frame:
+ * the falling brick's shape and rotation, its position, the ghost row and the next brick.
+ * Shapes are the shared {@link BrickShape} instances, so nothing is copied.
+ * Snapshots are recycled by a {@link FrameBuffer}; a snapshot stays valid until the
+ * second publish after it, which lets a renderer compare it with the previous frame.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public final class FrameSnapshot {
+
+    private BrickShape shape;
+    private int xPosition;
+    private int yPosition;
+    private int ghostYPosition;
+    private BrickShape nextShape;
+    private long frame;
+
+    FrameSnapshot() {
+    }
+
+    /**
+     * Overwrites this snapshot. Only called by FrameBuffer on its back buffer.
+     */
+    void set(BrickShape shape, int xPosition, int yPosition, int ghostYPosition, BrickShape nextShape, long frame) {
+        this.shape = shape;
+        this.xPosition = xPosition;
+        this.yPosition = yPosition;
+        this.ghostYPosition = ghostYPosition;
+        this.nextShape = nextShape;
+        this.frame = frame;
+    }
+
+    /**
+     * Gets the rotation state of the falling brick.
+     *
+     * @return Shared, immutable brick shape
+     */
+    public BrickShape getShape() {
+        return shape;
+    }
+
+    public BrickFactory.BrickType getBrickType() {
+        return shape.getType();
+    }
+
+    public int getRotation() {
+        return shape.getRotation();
+    }
+
+    public int getxPosition() {
+        return xPosition;
+    }
+
+    public int getyPosition() {
+        return yPosition;
+    }
+
+    /**
+     * Gets the row where the falling brick would land.
+     * The ghost shares the brick's column and shape.
+     */
+    public int getGhostYPosition() {
+        return ghostYPosition;
+    }
+
+    /**
+     * Gets the spawn rotation of the next brick in the queue.
+     *
+     * @return Shared, immutable brick shape
+     */
+    public BrickShape getNextShape() {
+        return nextShape;
+    }
+
+    public BrickFactory.BrickType getNextBrickType() {
+        return nextShape.getType();
+    }
+
+    /**
+     * Gets the sequence number of this snapshot.
+     * Increases by one on every publish, so equal numbers mean an unchanged frame.
+     */
+    public long getFrame() {
+        return frame;
+    }
+}
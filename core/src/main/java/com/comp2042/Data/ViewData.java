@@ -1,7 +1,6 @@
 package com.comp2042.Data;
 
 import com.comp2042.utils.MatrixOperations;
-import java.awt.Point;
 
 public final class ViewData {
 
@@ -9,15 +8,15 @@ public final class ViewData {
     private final int xPosition;
     private final int yPosition;
     private final int[][] nextBrickData;
-    private final Point ghostPosition;   //added for ghost brick calculator
+    private final int ghostYPosition;   //added for ghost brick calculator
 
 //updated the view data for Ghost brick calculator
-    public ViewData(int[][] brickData, int xPosition, int yPosition, int[][] nextBrickData, Point ghostPosition) {
+    public ViewData(int[][] brickData, int xPosition, int yPosition, int[][] nextBrickData, int ghostYPosition) {
         this.brickData = brickData;
         this.xPosition = xPosition;
         this.yPosition = yPosition;
         this.nextBrickData = nextBrickData;
-        this.ghostPosition = ghostPosition;
+        this.ghostYPosition = ghostYPosition;
     }
 
     public int[][] getBrickData() {
@@ -37,7 +36,8 @@ public final class ViewData {
     }
 
     //adding the getter method for GhostBrick calculator
-    public Point getGhostPosition() {
-        return ghostPosition != null ? new Point(ghostPosition) : null;
+    //the ghost shares the brick's column, so only its row is stored
+    public int getGhostYPosition() {
+        return ghostYPosition;
     }
 }
@@ -25,9 +25,17 @@ public final class GameConstants {
     public static final int DEFAULT_FALL_SPEED_MS = 400;
     public static final int FAST_FALL_SPEED_MS = 50;
     public static final int NOTIFICATION_DURATION_MS = 2500;
+    public static final int GAME_TICKS_PER_SECOND = 60;
+    public static final long GAME_TICK_NANOS = 1_000_000_000L / GAME_TICKS_PER_SECOND;
+    public static final int GRAVITY_TICKS = (int) (DEFAULT_FALL_SPEED_MS * 1_000_000L / GAME_TICK_NANOS);
+
+    // Held-key auto shift, in game ticks
+    public static final int DAS_TICKS = 10;  // delay before a held key starts repeating
+    public static final int ARR_TICKS = 2;   // ticks between repeats, 0 slides straight to the wall
 
     // Scoring
     public static final int SCORE_PER_SOFT_DROP = 1;
+    public static final int SCORE_PER_HARD_DROP_ROW = 2;
     public static final int SCORE_BASE_MULTIPLIER = 50;
 
     // Brick spawn position
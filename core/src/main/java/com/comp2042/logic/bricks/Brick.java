@@ -0,0 +1,21 @@
+package com.comp2042.logic.bricks;
+
+import java.util.List;
+
+public interface Brick {
+
+    /**
+     * Gets a mutable deep copy of every rotation matrix.
+     * Prefer {@link #getRotations()} on hot paths, which allocates nothing.
+     */
+    List<int[][]> getShapeMatrix();
+
+    BrickFactory.BrickType getType();
+
+    /**
+     * Gets the shared, read-only rotation states of this brick.
+     */
+    default List<BrickShape> getRotations() {
+        return BrickFactory.getRotations(getType());
+    }
+}
@@ -0,0 +1,106 @@
+package com.comp2042.logic.bricks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Factory class for creating brick instances.
+ * Implements Factory Design Pattern to centralize brick creation.
+ */
+public class BrickFactory {
+
+    /**
+     * Enum representing all available brick types.
+     */
+    public enum BrickType {
+        I_BRICK,
+        J_BRICK,
+        L_BRICK,
+        O_BRICK,
+        S_BRICK,
+        T_BRICK,
+        Z_BRICK
+    }
+
+    /**
+     * Interned rotation states of every brick type, built once on class load.
+     */
+    private static final Map<BrickType, List<BrickShape>> SHAPE_TABLE = buildShapeTable();
+
+    /**
+     * Creates a new brick based on type.
+     */
+    public static Brick createBrick(BrickType type) {
+        if (type == null) {
+            throw new IllegalArgumentException("Brick type cannot be null");
+        }
+
+        return switch (type) {
+            case I_BRICK -> new IBrick();
+            case J_BRICK -> new JBrick();
+            case L_BRICK -> new LBrick();
+            case O_BRICK -> new OBrick();
+            case S_BRICK -> new SBrick();
+            case T_BRICK -> new TBrick();
+            case Z_BRICK -> new ZBrick();
+        };
+    }
+
+    /**
+     * Gets total number of brick types.
+     */
+    public static int getBrickTypeCount() {
+        return BrickType.values().length;
+    }
+
+    /**
+     * Gets brick type by index (useful for random generation).
+     */
+    public static BrickType getBrickTypeByIndex(int index) {
+        BrickType[] types = BrickType.values();
+        if (index < 0 || index >= types.length) {
+            throw new IllegalArgumentException("Invalid brick type index: " + index);
+        }
+        return types[index];
+    }
+
+    /**
+     * Gets the shared, read-only rotation states of a brick type.
+     */
+    public static List<BrickShape> getRotations(BrickType type) {
+        if (type == null) {
+            throw new IllegalArgumentException("Brick type cannot be null");
+        }
+        return SHAPE_TABLE.get(type);
+    }
+
+    /**
+     * Gets one shared rotation state of a brick type.
+     */
+    public static BrickShape getShape(BrickType type, int rotation) {
+        List<BrickShape> rotations = getRotations(type);
+        if (rotation < 0 || rotation >= rotations.size()) {
+            throw new IllegalArgumentException("Invalid rotation " + rotation + " for " + type);
+        }
+        return rotations.get(rotation);
+    }
+
+    /**
+     * Builds the shape table from the brick definitions.
+     */
+    private static Map<BrickType, List<BrickShape>> buildShapeTable() {
+        Map<BrickType, List<BrickShape>> table = new EnumMap<>(BrickType.class);
+        for (BrickType type : BrickType.values()) {
+            List<int[][]> matrices = createBrick(type).getShapeMatrix();
+            List<BrickShape> rotations = new ArrayList<>(matrices.size());
+            for (int i = 0; i < matrices.size(); i++) {
+                rotations.add(new BrickShape(type, i, matrices.get(i)));
+            }
+            table.put(type, Collections.unmodifiableList(rotations));
+        }
+        return Collections.unmodifiableMap(table);
+    }
+}
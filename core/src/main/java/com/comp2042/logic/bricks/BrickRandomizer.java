@@ -0,0 +1,28 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * Available randomizers, so callers such as simulations can pick one by name.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public enum BrickRandomizer {
+    UNIFORM,
+    SEVEN_BAG,
+    HISTORY;
+
+    /**
+     * Creates a generator of this kind.
+     *
+     * @param seed Seed of the brick sequence
+     * @return New generator with its own random state
+     */
+    public SeededBrickGenerator create(long seed) {
+        return switch (this) {
+            case UNIFORM -> new RandomBrickGenerator(seed);
+            case SEVEN_BAG -> new SevenBagBrickGenerator(seed);
+            case HISTORY -> new HistoryBrickGenerator(seed);
+        };
+    }
+}
@@ -0,0 +1,209 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.utils.MatrixOperations;
+
+import java.util.Arrays;
+
+/**
+ * Immutable, interned rotation state of a brick.
+ * Instances are built once by {@link BrickFactory} and shared by every board,
+ * so reading a shape on the move/rotate path allocates nothing.
+ * Besides the color matrix each state carries precomputed row bitmasks,
+ * per-column bottom offsets, the bounding box of its filled cells
+ * and the list of cell offsets.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public final class BrickShape {
+
+    private final BrickFactory.BrickType type;
+    private final int rotation;
+    private final int[][] matrix;
+    private final int colorCode;
+    private final int[] rowMasks;
+    private final int[] columnBottoms;
+    private final int[] cellX;
+    private final int[] cellY;
+    private final int minX;
+    private final int maxX;
+    private final int minY;
+    private final int maxY;
+
+    /**
+     * Creates a rotation state from a shape matrix.
+     * The matrix is copied, so later changes to the argument have no effect.
+     *
+     * @param type Brick type this state belongs to
+     * @param rotation Index of this state in the brick's rotation list
+     * @param shape Shape matrix indexed as [row][column]
+     */
+    BrickShape(BrickFactory.BrickType type, int rotation, int[][] shape) {
+        this.type = type;
+        this.rotation = rotation;
+        this.matrix = MatrixOperations.copy(shape);
+        this.rowMasks = new int[matrix.length];
+        this.columnBottoms = new int[matrix[0].length];
+        Arrays.fill(columnBottoms, -1);
+
+        int count = 0;
+        int color = 0;
+        for (int[] row : matrix) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    count++;
+                    color = cell;
+                }
+            }
+        }
+        this.colorCode = color;
+        this.cellX = new int[count];
+        this.cellY = new int[count];
+
+        int left = Integer.MAX_VALUE;
+        int right = Integer.MIN_VALUE;
+        int top = Integer.MAX_VALUE;
+        int bottom = Integer.MIN_VALUE;
+        int k = 0;
+        for (int r = 0; r < matrix.length; r++) {
+            for (int c = 0; c < matrix[r].length; c++) {
+                if (matrix[r][c] != 0) {
+                    rowMasks[r] |= 1 << c;
+                    columnBottoms[c] = r;
+                    cellX[k] = c;
+                    cellY[k] = r;
+                    k++;
+                    left = Math.min(left, c);
+                    right = Math.max(right, c);
+                    top = Math.min(top, r);
+                    bottom = Math.max(bottom, r);
+                }
+            }
+        }
+        this.minX = left;
+        this.maxX = right;
+        this.minY = top;
+        this.maxY = bottom;
+    }
+
+    public BrickFactory.BrickType getType() {
+        return type;
+    }
+
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the color code shared by every filled cell.
+     *
+     * @return Color code (1-7)
+     */
+    public int getColorCode() {
+        return colorCode;
+    }
+
+    /**
+     * Gets the number of rows of the shape matrix.
+     *
+     * @return Matrix height (4 for every standard brick)
+     */
+    public int getRowCount() {
+        return matrix.length;
+    }
+
+    /**
+     * Gets the number of columns of the shape matrix.
+     *
+     * @return Matrix width (4 for every standard brick)
+     */
+    public int getColumnCount() {
+        return matrix[0].length;
+    }
+
+    /**
+     * Gets the color code at a position of the shape matrix.
+     *
+     * @param row Row inside the shape matrix
+     * @param column Column inside the shape matrix
+     * @return Color code, 0 for an empty cell
+     */
+    public int getValue(int row, int column) {
+        return matrix[row][column];
+    }
+
+    /**
+     * Gets the occupancy of one shape row as a bitmask.
+     *
+     * @param row Row inside the shape matrix
+     * @return Bitmask with bit c set when column c is filled
+     */
+    public int getRowMask(int row) {
+        return rowMasks[row];
+    }
+
+    /**
+     * Gets the lowest filled row of one shape column.
+     * Used to compute landing rows from column heights.
+     *
+     * @param column Column inside the shape matrix
+     * @return Row of the lowest filled cell, or -1 if the column is empty
+     */
+    public int getColumnBottom(int column) {
+        return columnBottoms[column];
+    }
+
+    /**
+     * Gets the number of filled cells (4 for every standard brick).
+     */
+    public int getCellCount() {
+        return cellX.length;
+    }
+
+    /**
+     * Gets the column offset of a filled cell.
+     *
+     * @param index Cell index, 0 to getCellCount() - 1
+     * @return Column inside the shape matrix
+     */
+    public int getCellX(int index) {
+        return cellX[index];
+    }
+
+    /**
+     * Gets the row offset of a filled cell.
+     *
+     * @param index Cell index, 0 to getCellCount() - 1
+     * @return Row inside the shape matrix
+     */
+    public int getCellY(int index) {
+        return cellY[index];
+    }
+
+    public int getMinX() {
+        return minX;
+    }
+
+    public int getMaxX() {
+        return maxX;
+    }
+
+    public int getMinY() {
+        return minY;
+    }
+
+    public int getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * Creates a mutable copy of the shape matrix.
+     * Only for callers that really need their own array.
+     *
+     * @return Independent copy of the shape matrix
+     */
+    public int[][] toMatrix() {
+        return MatrixOperations.copy(matrix);
+    }
+}
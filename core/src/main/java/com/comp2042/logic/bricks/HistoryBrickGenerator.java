@@ -0,0 +1,80 @@
+package com.comp2042.logic.bricks;
+
+import java.util.Arrays;
+
+/**
+ * History randomizer: remembers the last few brick types and rerolls
+ * a limited number of times when a draw is in the history.
+ * Repeats become rare without making the sequence fully predictable.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class HistoryBrickGenerator extends SeededBrickGenerator {
+
+    private static final int DEFAULT_HISTORY_SIZE = 4;
+    private static final int DEFAULT_ROLLS = 4;
+
+    private final int[] history;
+    private final int rolls;
+    private int oldest;
+
+    /**
+     * Creates a generator with a random seed and the default history of four bricks
+     * and four rolls.
+     */
+    public HistoryBrickGenerator() {
+        this(randomSeed());
+    }
+
+    /**
+     * Creates a generator with the default history of four bricks and four rolls.
+     *
+     * @param seed Seed of the brick sequence
+     */
+    public HistoryBrickGenerator(long seed) {
+        this(seed, DEFAULT_HISTORY_SIZE, DEFAULT_ROLLS);
+    }
+
+    /**
+     * Creates a generator with a custom history size and number of rolls.
+     *
+     * @param seed Seed of the brick sequence
+     * @param historySize Number of recent bricks to avoid
+     * @param rolls Maximum draws per brick before accepting a repeat
+     * @throws IllegalArgumentException if historySize is not below the type count or rolls is not positive
+     */
+    public HistoryBrickGenerator(long seed, int historySize, int rolls) {
+        super(seed);
+        if (historySize < 0 || historySize >= typeCount() || rolls < 1) {
+            throw new IllegalArgumentException("Invalid history size " + historySize + " or rolls " + rolls);
+        }
+        this.history = new int[historySize];
+        Arrays.fill(history, -1);
+        this.rolls = rolls;
+        start();
+    }
+
+    @Override
+    protected int nextTypeIndex() {
+        int type = random().nextInt(typeCount());
+        for (int roll = 1; roll < rolls && inHistory(type); roll++) {
+            type = random().nextInt(typeCount());
+        }
+        if (history.length > 0) {
+            history[oldest] = type;
+            oldest = (oldest + 1) % history.length;
+        }
+        return type;
+    }
+
+    private boolean inHistory(int type) {
+        for (int recent : history) {
+            if (recent == type) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
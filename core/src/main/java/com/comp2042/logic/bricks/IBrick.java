@@ -24,6 +24,11 @@ final class IBrick implements Brick {
         });
     }
 
+    @Override
+    public BrickFactory.BrickType getType() {
+        return BrickFactory.BrickType.I_BRICK;
+    }
+
     @Override
     public List<int[][]> getShapeMatrix() {
         return MatrixOperations.deepCopyList(brickMatrix);
@@ -36,6 +36,11 @@ final class JBrick implements Brick {
         });
     }
 
+    @Override
+    public BrickFactory.BrickType getType() {
+        return BrickFactory.BrickType.J_BRICK;
+    }
+
     @Override
     public List<int[][]> getShapeMatrix() {
         return MatrixOperations.deepCopyList(brickMatrix);
@@ -36,6 +36,11 @@ final class LBrick implements Brick {
         });
     }
 
+    @Override
+    public BrickFactory.BrickType getType() {
+        return BrickFactory.BrickType.L_BRICK;
+    }
+
     @Override
     public List<int[][]> getShapeMatrix() {
         return MatrixOperations.deepCopyList(brickMatrix);
@@ -18,6 +18,11 @@ final class OBrick implements Brick {
         });
     }
 
+    @Override
+    public BrickFactory.BrickType getType() {
+        return BrickFactory.BrickType.O_BRICK;
+    }
+
     @Override
     public List<int[][]> getShapeMatrix() {
         return MatrixOperations.deepCopyList(brickMatrix);
@@ -0,0 +1,33 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * Uniform randomizer: every brick type is equally likely on every draw.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class RandomBrickGenerator extends SeededBrickGenerator {
+
+    /**
+     * Creates a generator with a random seed.
+     */
+    public RandomBrickGenerator() {
+        this(randomSeed());
+    }
+
+    /**
+     * Creates a generator that replays the sequence of the given seed.
+     *
+     * @param seed Seed of the brick sequence
+     */
+    public RandomBrickGenerator(long seed) {
+        super(seed);
+        start();
+    }
+
+    @Override
+    protected int nextTypeIndex() {
+        return random().nextInt(typeCount());
+    }
+}
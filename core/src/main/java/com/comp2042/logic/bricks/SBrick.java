@@ -24,6 +24,11 @@ final class SBrick implements Brick {
         });
     }
 
+    @Override
+    public BrickFactory.BrickType getType() {
+        return BrickFactory.BrickType.S_BRICK;
+    }
+
     @Override
     public List<int[][]> getShapeMatrix() {
         return MatrixOperations.deepCopyList(brickMatrix);
@@ -0,0 +1,104 @@
+package com.comp2042.logic.bricks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Base class for reproducible brick generators.
+ * Each instance owns its own SplittableRandom created from an explicit seed,
+ * so generators never share state across boards or threads and the same
+ * seed always produces the same brick sequence.
+ * Subclasses only decide which type comes next.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public abstract class SeededBrickGenerator implements BrickGenerator {
+
+    private static final BrickFactory.BrickType[] TYPES = BrickFactory.BrickType.values();
+    private static final Brick[] BRICKS = createBricks();
+
+    private final long seed;
+    private final SplittableRandom random;
+    private Brick current;
+    private Brick next;
+
+    /**
+     * Creates a generator with the given seed.
+     * Subclasses must call {@link #start()} once their own fields are set up.
+     *
+     * @param seed Seed of the brick sequence
+     */
+    protected SeededBrickGenerator(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Picks a fresh seed for callers that do not need a reproducible game.
+     * The seed is still reported by {@link #getSeed()}, so such a game can be replayed.
+     *
+     * @return Random seed
+     */
+    public static long randomSeed() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    /**
+     * Fills the preview queue. Called at the end of subclass constructors.
+     */
+    protected final void start() {
+        current = BRICKS[nextTypeIndex()];
+        next = BRICKS[nextTypeIndex()];
+    }
+
+    /**
+     * Chooses the next brick type.
+     *
+     * @return Index into {@link BrickFactory.BrickType#values()}
+     */
+    protected abstract int nextTypeIndex();
+
+    /**
+     * Gets the generator's random source. Only for use inside {@link #nextTypeIndex()}.
+     */
+    protected final SplittableRandom random() {
+        return random;
+    }
+
+    /**
+     * Gets the number of brick types to choose from.
+     */
+    protected static int typeCount() {
+        return TYPES.length;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public Brick getBrick() {
+        Brick brick = current;
+        current = next;
+        next = BRICKS[nextTypeIndex()];
+        return brick;
+    }
+
+    @Override
+    public Brick getNextBrick() {
+        return current;
+    }
+
+    /**
+     * Bricks are immutable, so one instance per type is shared by every generator.
+     */
+    private static Brick[] createBricks() {
+        Brick[] bricks = new Brick[TYPES.length];
+        for (int i = 0; i < TYPES.length; i++) {
+            bricks[i] = BrickFactory.createBrick(TYPES[i]);
+        }
+        return bricks;
+    }
+}
@@ -0,0 +1,58 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * 7-bag randomizer: deals all seven brick types in a shuffled order,
+ * then reshuffles. Guarantees every type appears once per seven bricks.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class SevenBagBrickGenerator extends SeededBrickGenerator {
+
+    private final int[] bag;
+    private int position;
+
+    /**
+     * Creates a generator with a random seed.
+     */
+    public SevenBagBrickGenerator() {
+        this(randomSeed());
+    }
+
+    /**
+     * Creates a generator that replays the sequence of the given seed.
+     *
+     * @param seed Seed of the brick sequence
+     */
+    public SevenBagBrickGenerator(long seed) {
+        super(seed);
+        bag = new int[typeCount()];
+        for (int i = 0; i < bag.length; i++) {
+            bag[i] = i;
+        }
+        position = bag.length;
+        start();
+    }
+
+    @Override
+    protected int nextTypeIndex() {
+        if (position == bag.length) {
+            shuffle();
+            position = 0;
+        }
+        return bag[position++];
+    }
+
+    /**
+     * Fisher-Yates shuffle of the bag in place.
+     */
+    private void shuffle() {
+        for (int i = bag.length - 1; i > 0; i--) {
+            int j = random().nextInt(i + 1);
+            int tmp = bag[i];
+            bag[i] = bag[j];
+            bag[j] = tmp;
+        }
+    }
+}
@@ -0,0 +1,392 @@
+package com.comp2042.model.game;
+
+import com.comp2042.ClearRow;
+import com.comp2042.Data.FrameBuffer;
+import com.comp2042.Data.FrameSnapshot;
+import com.comp2042.Data.ViewData;
+import com.comp2042.constants.GameConstants;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.model.scoring.Score;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Bitboard implementation of the Tetris game board.
+ * Keeps occupancy as one int bitmask per row (bit c set = column c filled)
+ * next to a separate color plane, so collision, merge and full-row detection
+ * are shift-and-mask operations instead of copying and scanning the whole matrix.
+ * Supports the same levels as {@link SimpleBoard} and is intended for
+ * simulation workloads where the board is driven without a GUI.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class BitBoard implements Board {
+
+    private static final int MAX_COLUMNS = Integer.SIZE - 1;
+
+    private final int rows;
+    private final int columns;
+    private final int fullRowMask;
+    private final int[] rowMasks;
+    private int[][] colorPlane;
+    private final BrickGenerator brickGenerator;
+    private List<BrickShape> rotations;
+    private int rotation;
+    private int offsetX;
+    private int offsetY;
+    private final FrameBuffer frameBuffer = new FrameBuffer();
+    private final Score score;
+    private final LavaManager lavaManager;
+    private final TargetChallengeManager targetChallengeManager;
+    private GameLevel currentLevel = GameLevel.CLASSIC;
+    private int levelLinesCleared = 0;
+
+    /**
+     * Constructs a BitBoard with the same argument order as {@link SimpleBoard}.
+     *
+     * @param rows Number of rows in the well
+     * @param columns Number of columns in the well (at most 31)
+     * @throws IllegalArgumentException if the well does not fit the row masks
+     */
+    public BitBoard(int rows, int columns) {
+        this(rows, columns, new RandomBrickGenerator(), ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Constructs a BitBoard whose whole game replays from one seed,
+     * like {@link SimpleBoard#SimpleBoard(int, int, long)}.
+     *
+     * @param rows Number of rows in the well
+     * @param columns Number of columns in the well (at most 31)
+     * @param seed Seed of the game
+     * @throws IllegalArgumentException if the well does not fit the row masks
+     */
+    public BitBoard(int rows, int columns, long seed) {
+        this(rows, columns, new RandomBrickGenerator(seed), seed);
+    }
+
+    /**
+     * Constructs a BitBoard that takes its bricks from the given generator.
+     *
+     * @param rows Number of rows in the well
+     * @param columns Number of columns in the well (at most 31)
+     * @param brickGenerator Source of bricks
+     * @param levelSeed Seed for level randomness (target challenge missions)
+     * @throws IllegalArgumentException if the well does not fit the row masks
+     */
+    public BitBoard(int rows, int columns, BrickGenerator brickGenerator, long levelSeed) {
+        this(rows, columns, brickGenerator, levelSeed, GameClock.SYSTEM);
+    }
+
+    /**
+     * Constructs a BitBoard whose timed level mechanics follow the given clock.
+     *
+     * @param rows Number of rows in the well
+     * @param columns Number of columns in the well (at most 31)
+     * @param brickGenerator Source of bricks
+     * @param levelSeed Seed for level randomness (target challenge missions)
+     * @param clock Game time for lava descent and the challenge countdown
+     * @throws IllegalArgumentException if the well does not fit the row masks
+     */
+    public BitBoard(int rows, int columns, BrickGenerator brickGenerator, long levelSeed, GameClock clock) {
+        if (rows <= 0 || columns <= 0 || columns > MAX_COLUMNS) {
+            throw new IllegalArgumentException("Invalid board size: " + rows + "x" + columns);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.fullRowMask = (1 << columns) - 1;
+        this.rowMasks = new int[rows];
+        this.colorPlane = new int[rows][columns];
+        this.brickGenerator = brickGenerator;
+        this.score = new Score();
+        this.lavaManager = new LavaManager(clock);
+        this.targetChallengeManager = new TargetChallengeManager(levelSeed, clock);
+    }
+
+    /**
+     * Checks whether a shape collides with the walls, the floor or occupied cells
+     * when its top-left corner is at (x, y), using the shape's precomputed row masks.
+     *
+     * @param shape Brick rotation state
+     * @param x Column of the shape's left edge
+     * @param y Row of the shape's top edge
+     * @return true if collision detected, false otherwise
+     */
+    private boolean collides(BrickShape shape, int x, int y) {
+        for (int r = shape.getMinY(); r <= shape.getMaxY(); r++) {
+            int mask = shape.getRowMask(r);
+            if (mask == 0) {
+                continue;
+            }
+            int row = y + r;
+            if (row < 0 || row >= rows) {
+                return true;
+            }
+            int shifted;
+            if (x >= 0) {
+                shifted = mask << x;
+                if ((shifted & ~fullRowMask) != 0 || (shifted >>> x) != mask) {
+                    return true;
+                }
+            } else {
+                if ((mask & ((1 << -x) - 1)) != 0) {
+                    return true;
+                }
+                shifted = mask >>> -x;
+            }
+            if ((shifted & rowMasks[row]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean tryMove(int dx, int dy) {
+        if (collides(rotations.get(rotation), offsetX + dx, offsetY + dy)) {
+            return false;
+        }
+        offsetX += dx;
+        offsetY += dy;
+        return true;
+    }
+
+    @Override
+    public boolean moveBrickDown() {
+        return tryMove(0, 1);
+    }
+
+    @Override
+    public int hardDrop() {
+        int landing = landingRow();
+        int rows = landing - offsetY;
+        offsetY = landing;
+        return rows;
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        return tryMove(-1, 0);
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        return tryMove(1, 0);
+    }
+
+    @Override
+    public boolean rotateLeftBrick() {
+        int next = (rotation + 1) % rotations.size();
+        if (collides(rotations.get(next), offsetX, offsetY)) {
+            return false;
+        }
+        rotation = next;
+        return true;
+    }
+
+    /**
+     * Spawns a new brick at the spawn point.
+     *
+     * @return true if spawn position is blocked (game over condition), false otherwise
+     */
+    @Override
+    public boolean createNewBrick() {
+        rotations = brickGenerator.getBrick().getRotations();
+        rotation = 0;
+        offsetX = GameConstants.BRICK_SPAWN_X;
+        offsetY = GameConstants.BRICK_SPAWN_Y;
+        return collides(rotations.get(rotation), offsetX, offsetY);
+    }
+
+    /**
+     * Retrieves the color plane of the board.
+     * Callers that write into it directly must call {@link #rebuildMasks()} afterwards.
+     *
+     * @return 2D integer array of color codes
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        return colorPlane;
+    }
+
+    /**
+     * Computes the landing row of the current brick by sliding its masks down.
+     */
+    private int landingRow() {
+        BrickShape shape = rotations.get(rotation);
+        int y = offsetY;
+        while (!collides(shape, offsetX, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    @Override
+    public ViewData getViewData() {
+        return new ViewData(
+                rotations.get(rotation).toMatrix(),
+                offsetX,
+                offsetY,
+                brickGenerator.getNextBrick().getRotations().get(0).toMatrix(),
+                landingRow()
+        );
+    }
+
+    @Override
+    public FrameSnapshot getFrameSnapshot() {
+        return frameBuffer.publish(rotations.get(rotation), offsetX, offsetY, landingRow(),
+                brickGenerator.getNextBrick().getRotations().get(0));
+    }
+
+    /**
+     * Merges the current brick into both the occupancy masks and the color plane.
+     */
+    @Override
+    public void mergeBrickToBackground() {
+        BrickShape shape = rotations.get(rotation);
+        for (int r = shape.getMinY(); r <= shape.getMaxY(); r++) {
+            int mask = shape.getRowMask(r);
+            rowMasks[offsetY + r] |= offsetX >= 0 ? mask << offsetX : mask >>> -offsetX;
+        }
+        for (int k = 0; k < shape.getCellCount(); k++) {
+            colorPlane[offsetY + shape.getCellY(k)][offsetX + shape.getCellX(k)] = shape.getColorCode();
+        }
+    }
+
+    /**
+     * Removes full rows, detected by comparing each row mask to the full-row mask,
+     * and compacts both planes in place from the bottom up.
+     *
+     * @return ClearRow object containing lines removed count, new matrix, and score bonus
+     */
+    @Override
+    public ClearRow clearRows() {
+        int write = rows - 1;
+        int removed = 0;
+        int[] cleared = new int[rows];
+        for (int read = rows - 1; read >= 0; read--) {
+            if (rowMasks[read] == fullRowMask) {
+                cleared[rows - 1 - removed] = read;
+                removed++;
+                continue;
+            }
+            if (write != read) {
+                rowMasks[write] = rowMasks[read];
+                System.arraycopy(colorPlane[read], 0, colorPlane[write], 0, columns);
+            }
+            write--;
+        }
+        for (; write >= 0; write--) {
+            rowMasks[write] = 0;
+            Arrays.fill(colorPlane[write], GameConstants.COLOR_EMPTY);
+        }
+
+        if (removed > 0) {
+            levelLinesCleared += removed;
+            if (lavaManager.isActive()) {
+                lavaManager.recordLineClear();
+            }
+        }
+        if (lavaManager.isActive()) {
+            lavaManager.update();
+        }
+
+        int scoreBonus = GameConstants.SCORE_BASE_MULTIPLIER * removed * removed;
+        int[] clearedRows = Arrays.copyOfRange(cleared, rows - removed, rows);
+        return new ClearRow(removed, colorPlane, scoreBonus, clearedRows);
+    }
+
+    /**
+     * Recomputes the occupancy masks from the color plane.
+     * Needed after code outside this class fills cells, e.g. target challenge patterns.
+     */
+    public void rebuildMasks() {
+        for (int r = 0; r < rows; r++) {
+            int mask = 0;
+            for (int c = 0; c < columns; c++) {
+                if (colorPlane[r][c] != GameConstants.COLOR_EMPTY) {
+                    mask |= 1 << c;
+                }
+            }
+            rowMasks[r] = mask;
+        }
+    }
+
+    private void clearBoard() {
+        colorPlane = new int[rows][columns];
+        Arrays.fill(rowMasks, 0);
+    }
+
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    @Override
+    public void newGame() {
+        clearBoard();
+        score.reset();
+        currentLevel = GameLevel.CLASSIC;
+        levelLinesCleared = 0;
+        lavaManager.reset();
+        createNewBrick();
+    }
+
+    @Override
+    public GameLevel getCurrentLevel() {
+        return currentLevel;
+    }
+
+    @Override
+    public LavaManager getLavaManager() {
+        return lavaManager;
+    }
+
+    @Override
+    public boolean shouldLevelUp() {
+        if (currentLevel == GameLevel.TARGET_CHALLENGE) {
+            return targetChallengeManager.isMissionComplete();
+        }
+        return levelLinesCleared >= currentLevel.getLinesRequiredToAdvance();
+    }
+
+    @Override
+    public void advanceToNextLevel() {
+        currentLevel = currentLevel.getNextLevel();
+        levelLinesCleared = 0;
+        clearBoard();
+
+        lavaManager.deactivate();
+        targetChallengeManager.deactivate();
+
+        if (currentLevel == GameLevel.LAVA_SURVIVAL) {
+            lavaManager.activate();
+        } else if (currentLevel == GameLevel.TARGET_CHALLENGE) {
+            targetChallengeManager.activate();
+            targetChallengeManager.generatePattern(colorPlane, rows, columns);
+            rebuildMasks();
+        }
+
+        createNewBrick();
+    }
+
+    @Override
+    public boolean checkLavaGameOver() {
+        return lavaManager.isActive() && lavaManager.checkLavaCollision(colorPlane);
+    }
+
+    @Override
+    public TargetChallengeManager getTargetChallengeManager() {
+        return targetChallengeManager;
+    }
+
+    @Override
+    public boolean checkTargetChallengeTimeout() {
+        return targetChallengeManager.isActive() && targetChallengeManager.updateTimer();
+    }
+}
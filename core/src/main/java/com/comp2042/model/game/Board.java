@@ -1,6 +1,7 @@
 package com.comp2042.model.game;
 
 import com.comp2042.ClearRow;
+import com.comp2042.Data.FrameSnapshot;
 import com.comp2042.Data.ViewData;
 import com.comp2042.model.scoring.Score;
 
@@ -8,6 +9,14 @@ public interface Board {
 
     boolean moveBrickDown();
 
+    /**
+     * Moves the current brick straight to its landing row in one step.
+     * The brick is not locked; the caller runs the lock pipeline.
+     *
+     * @return Number of rows the brick fell
+     */
+    int hardDrop();
+
     boolean moveBrickLeft();
 
     boolean moveBrickRight();
@@ -20,6 +29,14 @@ public interface Board {
 
     ViewData getViewData();
 
+    /**
+     * Publishes the current brick state into the board's reusable snapshot buffer.
+     * Allocation-free alternative to {@link #getViewData()} for the render path.
+     *
+     * @return Snapshot valid until the second call after this one
+     */
+    FrameSnapshot getFrameSnapshot();
+
     void mergeBrickToBackground();
 
     ClearRow clearRows();
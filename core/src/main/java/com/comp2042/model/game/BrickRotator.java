@@ -0,0 +1,55 @@
+package com.comp2042.model.game;
+
+import com.comp2042.NextShapeInfo;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickShape;
+
+import java.util.List;
+
+public class BrickRotator {
+
+    private List<BrickShape> rotations;
+    private int currentShape = 0;
+
+    /**
+     * Gets the next rotation as a mutable copy.
+     * Hot paths should use {@link #getNextBrickShape()} instead.
+     */
+    public NextShapeInfo getNextShape() {
+        BrickShape next = getNextBrickShape();
+        return new NextShapeInfo(next.toMatrix(), next.getRotation());
+    }
+
+    /**
+     * Gets the current rotation as a mutable copy.
+     * Hot paths should use {@link #getCurrentBrickShape()} instead.
+     */
+    public int[][] getCurrentShape() {
+        return getCurrentBrickShape().toMatrix();
+    }
+
+    /**
+     * Gets the shared rotation state the brick is currently in.
+     */
+    public BrickShape getCurrentBrickShape() {
+        return rotations.get(currentShape);
+    }
+
+    /**
+     * Gets the shared rotation state the brick would rotate into.
+     */
+    public BrickShape getNextBrickShape() {
+        return rotations.get((currentShape + 1) % rotations.size());
+    }
+
+    public void setCurrentShape(int currentShape) {
+        this.currentShape = currentShape;
+    }
+
+    public void setBrick(Brick brick) {
+        this.rotations = brick.getRotations();
+        currentShape = 0;
+    }
+
+
+}
@@ -0,0 +1,128 @@
+package com.comp2042.model.game;
+
+/**
+ * Fixed-timestep game loop with an accumulator.
+ * Real frame time is fed in through {@link #advance(long)} and turned into
+ * a whole number of equally long ticks; the remainder carries over to the next
+ * frame and is exposed as {@link #getAlpha()} for interpolated rendering.
+ * The loop is also the {@link GameClock} of the board: game time only moves
+ * forward by whole ticks, so gravity, lava and the challenge timer all run
+ * from the same source and stop together while the loop is paused.
+ * Headless callers skip real time entirely and call {@link #step(int)}.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class FixedTimestepLoop implements GameClock {
+
+    /** Frames longer than this are clamped, so a stall cannot trigger a burst of catch-up ticks. */
+    private static final int MAX_TICKS_PER_FRAME = 10;
+
+    private final long tickNanos;
+    private Runnable tickHandler = () -> { };
+    private long gameTime;
+    private long ticks;
+    private long accumulator;
+    private long lastFrameTime = -1;
+
+    /**
+     * Creates a loop with the given tick length.
+     *
+     * @param tickNanos Length of one tick in nanoseconds
+     * @throws IllegalArgumentException if tickNanos is not positive
+     */
+    public FixedTimestepLoop(long tickNanos) {
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("Tick length must be positive: " + tickNanos);
+        }
+        this.tickNanos = tickNanos;
+    }
+
+    /**
+     * Sets the code run once per tick.
+     *
+     * @param tickHandler Tick handler, or null for none
+     */
+    public void setTickHandler(Runnable tickHandler) {
+        this.tickHandler = tickHandler != null ? tickHandler : () -> { };
+    }
+
+    /**
+     * Feeds one frame of real time into the loop and runs the ticks it covers.
+     * The first call after construction or {@link #resetFrameTime()} only records the timestamp.
+     *
+     * @param frameTimeNanos Monotonic timestamp of the frame, e.g. from System.nanoTime()
+     * @return Number of ticks run
+     */
+    public int advance(long frameTimeNanos) {
+        if (lastFrameTime < 0) {
+            lastFrameTime = frameTimeNanos;
+            return 0;
+        }
+        long elapsed = frameTimeNanos - lastFrameTime;
+        lastFrameTime = frameTimeNanos;
+        accumulator += Math.min(Math.max(elapsed, 0), MAX_TICKS_PER_FRAME * tickNanos);
+
+        int run = 0;
+        while (accumulator >= tickNanos) {
+            accumulator -= tickNanos;
+            tick();
+            run++;
+        }
+        return run;
+    }
+
+    /**
+     * Runs ticks immediately without looking at real time.
+     *
+     * @param count Number of ticks to run
+     */
+    public void step(int count) {
+        for (int i = 0; i < count; i++) {
+            tick();
+        }
+    }
+
+    private void tick() {
+        gameTime += tickNanos;
+        ticks++;
+        tickHandler.run();
+    }
+
+    /**
+     * Forgets the last frame timestamp and the leftover time.
+     * Call when the loop is paused or stopped so the gap is not replayed on resume.
+     */
+    public void resetFrameTime() {
+        lastFrameTime = -1;
+        accumulator = 0;
+    }
+
+    /**
+     * Gets how far the current frame is between the last tick and the next one.
+     *
+     * @return Interpolation factor in [0, 1)
+     */
+    public double getAlpha() {
+        return (double) accumulator / tickNanos;
+    }
+
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Gets the game time, advanced by one tick length per tick.
+     *
+     * @return Game time in nanoseconds
+     */
+    @Override
+    public long nanoTime() {
+        return gameTime;
+    }
+}
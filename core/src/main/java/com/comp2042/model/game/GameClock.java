@@ -0,0 +1,26 @@
+package com.comp2042.model.game;
+
+/**
+ * Source of game time for timed level mechanics such as lava descent
+ * and the target challenge countdown.
+ * Only differences between readings are meaningful.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+@FunctionalInterface
+public interface GameClock {
+
+    /**
+     * Monotonic wall clock, used when no game loop drives the board.
+     */
+    GameClock SYSTEM = System::nanoTime;
+
+    /**
+     * Gets the current game time.
+     *
+     * @return Time in nanoseconds
+     */
+    long nanoTime();
+}
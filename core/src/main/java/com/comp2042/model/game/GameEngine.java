@@ -0,0 +1,131 @@
+package com.comp2042.model.game;
+
+import com.comp2042.ClearRow;
+import com.comp2042.constants.GameConstants;
+
+/**
+ * Headless game loop step shared by the GUI controller and simulations.
+ * Owns the lock pipeline that runs when a brick cannot fall any further
+ * or is hard dropped:
+ * merge, lava check, row clear, scoring, level progression and respawn.
+ * Reports what happened through an optional {@link GameListener}.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class GameEngine {
+
+    private static final GameListener NO_LISTENER = new GameListener() {
+    };
+
+    private final Board board;
+    private GameListener listener = NO_LISTENER;
+    private boolean gameOver;
+
+    /**
+     * Creates an engine driving the given board.
+     *
+     * @param board Board to play on
+     */
+    public GameEngine(Board board) {
+        this.board = board;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * Sets the listener for level-ups, locked bricks and game over.
+     *
+     * @param listener Listener to notify, or null for none
+     */
+    public void setListener(GameListener listener) {
+        this.listener = listener != null ? listener : NO_LISTENER;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Moves the current brick down one row and locks it if it cannot move.
+     *
+     * @return ClearRow for the locked brick, or null if the brick moved or the game ended before locking
+     */
+    public ClearRow moveDown() {
+        boolean canMove = board.moveBrickDown();
+
+        if (board.checkTargetChallengeTimeout()) {
+            endGame();
+            return null;
+        }
+        if (canMove) {
+            return null;
+        }
+        return lockBrick();
+    }
+
+    /**
+     * Drops the current brick straight to its landing row and locks it in one step.
+     * Awards {@link GameConstants#SCORE_PER_HARD_DROP_ROW} points per row fallen.
+     *
+     * @return ClearRow for the locked brick, or null if the game ended before locking
+     */
+    public ClearRow hardDrop() {
+        int rows = board.hardDrop();
+
+        if (board.checkTargetChallengeTimeout()) {
+            endGame();
+            return null;
+        }
+        if (rows > 0) {
+            board.getScore().add(rows * GameConstants.SCORE_PER_HARD_DROP_ROW);
+        }
+        return lockBrick();
+    }
+
+    /**
+     * Runs the lock pipeline for the current brick at its current position.
+     *
+     * @return ClearRow for the locked brick, or null if lava ended the game
+     */
+    private ClearRow lockBrick() {
+        board.mergeBrickToBackground();
+
+        if (board.checkLavaGameOver()) {
+            endGame();
+            return null;
+        }
+
+        ClearRow clearRow = board.clearRows();
+        if (clearRow.getLinesRemoved() > 0) {
+            board.getScore().add(clearRow.getScoreBonus());
+        }
+
+        if (board.shouldLevelUp()) {
+            listener.onLevelUp(board.getCurrentLevel().getNextLevel());
+            board.advanceToNextLevel();
+        }
+
+        if (board.createNewBrick()) {
+            endGame();
+        }
+        listener.onBrickLocked(clearRow);
+        return clearRow;
+    }
+
+    /**
+     * Resets the board and the game-over flag for a new game.
+     */
+    public void newGame() {
+        gameOver = false;
+        board.newGame();
+    }
+
+    private void endGame() {
+        gameOver = true;
+        listener.onGameOver();
+    }
+}
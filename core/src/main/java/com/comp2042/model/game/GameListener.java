@@ -0,0 +1,36 @@
+package com.comp2042.model.game;
+
+import com.comp2042.ClearRow;
+
+/**
+ * Callbacks fired by {@link GameEngine} while a game runs.
+ * All methods have empty defaults, so headless callers implement only what they need.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public interface GameListener {
+
+    /**
+     * Called just before the board advances to the next level.
+     *
+     * @param nextLevel Level the board is about to enter
+     */
+    default void onLevelUp(GameLevel nextLevel) {
+    }
+
+    /**
+     * Called after a brick has been locked, rows cleared and the next brick spawned.
+     *
+     * @param clearRow Result of the row clear for the locked brick
+     */
+    default void onBrickLocked(ClearRow clearRow) {
+    }
+
+    /**
+     * Called once when the game ends.
+     */
+    default void onGameOver() {
+    }
+}
@@ -0,0 +1,98 @@
+package com.comp2042.model.game;
+
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.utils.MatrixOperations;
+
+/**
+ * Utility class for calculating ghost brick landing positions.
+ * The ghost brick shows players where the current piece will land
+ * if dropped straight down without rotation or horizontal movement.
+ * Follows Single Responsibility Principle by isolating position calculation logic.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class GhostBrickCalculator {
+
+    /**
+     * Calculates the landing row for a brick if dropped straight down.
+     * Simulates brick falling until collision is detected with board bottom or existing blocks.
+     * The column never changes, so only the row is returned.
+     *
+     * @param gameMatrix Current game board state (2D array)
+     * @param brickShape Current brick shape matrix (2D array)
+     * @param x Current column of the brick
+     * @param y Current row of the brick
+     * @return Landing row, or the current row if inputs are null
+     */
+    public static int calculateLandingY(int[][] gameMatrix, int[][] brickShape, int x, int y) {
+        if (gameMatrix == null || brickShape == null) {
+            return y;
+        }
+
+        int ghostY = y;
+        // Keep moving down until collision detected
+        while (!MatrixOperations.intersect(gameMatrix, brickShape, x, ghostY + 1)) {
+            ghostY++;
+        }
+        return ghostY;
+    }
+
+    /**
+     * Calculates the landing row for a shared brick rotation state.
+     * Allocation-free variant used by the boards on every view update.
+     *
+     * @param gameMatrix Current game board state (2D array)
+     * @param shape Current brick rotation state
+     * @param x Current column of the brick
+     * @param y Current row of the brick
+     * @return Landing row, or the current row if inputs are null
+     */
+    public static int calculateLandingY(int[][] gameMatrix, BrickShape shape, int x, int y) {
+        if (gameMatrix == null || shape == null) {
+            return y;
+        }
+
+        int ghostY = y;
+        while (!MatrixOperations.intersect(gameMatrix, shape, x, ghostY + 1)) {
+            ghostY++;
+        }
+        return ghostY;
+    }
+
+    /**
+     * Calculates the landing row from a column-height profile in O(brick width).
+     * The brick lands on the highest surface under any of its columns, taking
+     * each column's lowest cell into account. When the brick is already below the
+     * surface of one of its columns (tucked under an overhang) the profile says
+     * nothing about the cells in between, so the row-by-row scan is used instead.
+     *
+     * @param gameMatrix Current game board state (2D array)
+     * @param columnHeights Height of the highest filled cell per board column, 0 if empty
+     * @param shape Current brick rotation state
+     * @param x Current column of the brick
+     * @param y Current row of the brick
+     * @return Landing row, or the current row if inputs are null
+     */
+    public static int calculateLandingY(int[][] gameMatrix, int[] columnHeights, BrickShape shape, int x, int y) {
+        if (gameMatrix == null || columnHeights == null || shape == null) {
+            return y;
+        }
+
+        int rows = gameMatrix.length;
+        int landingY = Integer.MAX_VALUE;
+        for (int c = shape.getMinX(); c <= shape.getMaxX(); c++) {
+            int bottom = shape.getColumnBottom(c);
+            if (bottom < 0) {
+                continue;
+            }
+            int surface = rows - columnHeights[x + c];
+            if (y + bottom >= surface) {
+                return calculateLandingY(gameMatrix, shape, x, y);
+            }
+            landingY = Math.min(landingY, surface - 1 - bottom);
+        }
+        return landingY;
+    }
+}
@@ -16,9 +16,26 @@ public class LavaManager {
     private boolean active = false;
     private int lavaRow = -1; // Current row where lava bottom is located
     private long lastLavaMoveTime;
-    private static final long LAVA_MOVE_INTERVAL_MS = 4000; // Lava moves every 4 seconds
+    private static final long LAVA_MOVE_INTERVAL_NANOS = 4_000_000_000L; // Lava moves every 4 seconds
     private int linesCleared = 0; // Track lines cleared in lava mode
     private static final int LAVA_THICKNESS = 3; //lava thickness
+    private final GameClock clock;
+
+    /**
+     * Creates a LavaManager timed by the system clock.
+     */
+    public LavaManager() {
+        this(GameClock.SYSTEM);
+    }
+
+    /**
+     * Creates a LavaManager timed by the given game clock.
+     *
+     * @param clock Source of game time
+     */
+    public LavaManager(GameClock clock) {
+        this.clock = clock;
+    }
 
     /**
      * Activates lava mode.
@@ -28,21 +45,21 @@ public class LavaManager {
         if (!active) {
             active = true;
             lavaRow = 0; // Start at top row
-            lastLavaMoveTime = System.currentTimeMillis();
+            lastLavaMoveTime = clock.nanoTime();
             linesCleared = 0;
         }
     }
 
     /**
      * Updates lava position based on elapsed time.
-     * Moves lava down one row every LAVA_MOVE_INTERVAL_MS milliseconds (4 seconds).
+     * Moves lava down one row every LAVA_MOVE_INTERVAL_NANOS of game time (4 seconds).
      * Should be called regularly during gameplay.
      */
     public void update() {
         if (!active) return;
 
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastLavaMoveTime >= LAVA_MOVE_INTERVAL_MS) {
+        long currentTime = clock.nanoTime();
+        if (currentTime - lastLavaMoveTime >= LAVA_MOVE_INTERVAL_NANOS) {
             lavaRow++;
             lastLavaMoveTime = currentTime;
         }
@@ -120,6 +137,16 @@ public class LavaManager {
         return lavaRow;
     }
 
+    /**
+     * Gets how many rows from the top of the board are covered by lava.
+     * Lava fills rows 0 to depth - 1, so a renderer can draw it as one block.
+     *
+     * @return Number of covered rows, 0 if inactive
+     */
+    public int getLavaDepth() {
+        return active && lavaRow >= 0 ? lavaRow + LAVA_THICKNESS : 0;
+    }
+
     /**
      * Checks if lava mode is currently active.
      *
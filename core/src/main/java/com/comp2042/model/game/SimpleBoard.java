@@ -0,0 +1,636 @@
+package com.comp2042.model.game;
+
+import com.comp2042.ClearRow;
+import com.comp2042.Data.FrameBuffer;
+import com.comp2042.Data.FrameSnapshot;
+import com.comp2042.Data.ViewData;
+import com.comp2042.constants.GameConstants;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.model.scoring.Score;
+import com.comp2042.utils.MatrixOperations;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+
+/**
+ * Main implementation of the Tetris game board with multi-level support.
+ * Manages brick placement, collision detection, line clearing, and level-specific mechanics.
+ * Integrates LavaManager for Lava Survival mode and TargetChallengeManager for mission-based gameplay.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class SimpleBoard implements Board {
+
+    private static final int[] NO_ROWS = new int[0];
+
+    private final int width;
+    private final int height;
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private int[][] currentGameMatrix;
+    private final int[] columnHeights;
+    private final int[] rowFillCounts;
+    private final int[][] spareRows;
+    private int checkTopRow;
+    private int checkBottomRow;
+    private int currentX;
+    private int currentY;
+    private final FrameBuffer frameBuffer = new FrameBuffer();
+    private final Score score;
+    private final LavaManager lavaManager;
+    private GameLevel currentLevel = GameLevel.CLASSIC;
+    private int levelLinesCleared = 0;
+    private final TargetChallengeManager targetChallengeManager;
+
+
+
+    /**
+     * Constructs a SimpleBoard with specified dimensions and a randomly seeded
+     * uniform brick generator.
+     *
+     * @param width The height of the game board (number of rows)
+     * @param height The width of the game board (number of columns)
+     */
+    public SimpleBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    /**
+     * Constructs a SimpleBoard whose whole game replays from one seed:
+     * the uniform brick sequence and the target challenge missions.
+     *
+     * @param width The height of the game board (number of rows)
+     * @param height The width of the game board (number of columns)
+     * @param seed Seed of the game
+     */
+    public SimpleBoard(int width, int height, long seed) {
+        this(width, height, new RandomBrickGenerator(seed), seed);
+    }
+
+    /**
+     * Constructs a SimpleBoard that takes its bricks from the given generator.
+     * Target challenge missions are picked with a random seed.
+     *
+     * @param width The height of the game board (number of rows)
+     * @param height The width of the game board (number of columns)
+     * @param brickGenerator Source of bricks
+     */
+    public SimpleBoard(int width, int height, BrickGenerator brickGenerator) {
+        this(width, height, brickGenerator, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Constructs a SimpleBoard whose timed level mechanics follow the system clock.
+     *
+     * @param width The height of the game board (number of rows)
+     * @param height The width of the game board (number of columns)
+     * @param brickGenerator Source of bricks
+     * @param levelSeed Seed for level randomness (target challenge missions)
+     */
+    public SimpleBoard(int width, int height, BrickGenerator brickGenerator, long levelSeed) {
+        this(width, height, brickGenerator, levelSeed, GameClock.SYSTEM);
+    }
+
+    /**
+     * Constructs a SimpleBoard with specified dimensions.
+     * Initializes game matrix, rotator, score tracker,
+     * and level-specific managers.
+     *
+     * @param width The height of the game board (number of rows)
+     * @param height The width of the game board (number of columns)
+     * @param brickGenerator Source of bricks
+     * @param levelSeed Seed for level randomness (target challenge missions)
+     * @param clock Game time for lava descent and the challenge countdown, usually the game loop
+     */
+    public SimpleBoard(int width, int height, BrickGenerator brickGenerator, long levelSeed, GameClock clock) {
+        this.width = width;
+        this.height = height;
+        currentGameMatrix = new int[width][height];
+        columnHeights = new int[height];
+        rowFillCounts = new int[width];
+        spareRows = new int[width][];
+        checkTopRow = width;
+        checkBottomRow = -1;
+        this.brickGenerator = brickGenerator;
+        brickRotator = new BrickRotator();
+        score = new Score();
+        this.lavaManager = new LavaManager(clock);
+        this.targetChallengeManager = new TargetChallengeManager(levelSeed, clock); //initialize for target challenge//initialize for new level
+    }
+
+
+
+
+    /**
+     * Attempts to move the current brick down by one row.
+     * Checks for collision with board boundaries and existing blocks.
+     *
+     * @return true if brick moved successfully, false if collision detected
+     */
+    @Override
+    public boolean moveBrickDown() {
+        boolean conflict = MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentBrickShape(), currentX, currentY + 1);
+        if (conflict) {
+            return false;
+        } else {
+            currentY++;
+            return true;
+        }
+    }
+
+
+
+    /**
+     * Moves the current brick to its landing row using the column-height profile.
+     *
+     * @return Number of rows the brick fell
+     */
+    @Override
+    public int hardDrop() {
+        int landingY = getLandingY(brickRotator.getCurrentBrickShape(), currentX, currentY);
+        int rows = landingY - currentY;
+        currentY = landingY;
+        return rows;
+    }
+
+    /**
+     * Attempts to move the current brick left by one column.
+     * Checks for collision with board boundaries and existing blocks.
+     *
+     * @return true if brick moved successfully, false if collision detected
+     */
+    @Override
+    public boolean moveBrickLeft() {
+        boolean conflict = MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentBrickShape(), currentX - 1, currentY);
+        if (conflict) {
+            return false;
+        } else {
+            currentX--;
+            return true;
+        }
+    }
+
+
+    /**
+     * Attempts to move the current brick right by one column.
+     * Checks for collision with board boundaries and existing blocks.
+     *
+     * @return true if brick moved successfully, false if collision detected
+     */
+    @Override
+    public boolean moveBrickRight() {
+        boolean conflict = MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentBrickShape(), currentX + 1, currentY);
+        if (conflict) {
+            return false;
+        } else {
+            currentX++;
+            return true;
+        }
+    }
+
+
+    /**
+     * Attempts to rotate the current brick counter-clockwise.
+     * Checks for collision at the new orientation before applying rotation.
+     *
+     * @return true if rotation successful, false if collision detected
+     */
+    @Override
+    public boolean rotateLeftBrick() {
+        BrickShape nextShape = brickRotator.getNextBrickShape();
+        boolean conflict = MatrixOperations.intersect(currentGameMatrix, nextShape, currentX, currentY);
+        if (conflict) {
+            return false;
+        } else {
+            brickRotator.setCurrentShape(nextShape.getRotation());
+            return true;
+        }
+    }
+
+
+    /**
+     * Spawns a new brick at the top of the board.
+     * Retrieves next brick from generator and positions it at spawn point.
+     *
+     * @return true if spawn position is blocked (game over condition), false otherwise
+     */
+    //Updated so that the spawn position of the bricks is now at the top
+    @Override
+    public boolean createNewBrick() {
+        Brick currentBrick = brickGenerator.getBrick();
+        brickRotator.setBrick(currentBrick);
+        currentX = GameConstants.BRICK_SPAWN_X;
+        currentY = GameConstants.BRICK_SPAWN_Y;
+
+        // Return true if spawn position is blocked (game over condition)
+        return MatrixOperations.intersect(
+                currentGameMatrix,
+                brickRotator.getCurrentBrickShape(),
+                currentX,
+                currentY
+        );
+    }
+
+
+    /**
+     * Retrieves the current game board matrix.
+     *
+     * @return 2D integer array representing the board state
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        return currentGameMatrix;
+    }
+
+
+
+    /**
+     * Constructs view data for rendering the current game state.
+     * Includes current brick position, shape, next brick preview, and ghost position.
+     *
+     * @return ViewData object containing all rendering information
+     */
+    //updated the simple board so that it can calculate the ghost position.
+    @Override
+    public ViewData getViewData() {
+        // Calculate ghost brick position
+        int ghostY = getLandingY(brickRotator.getCurrentBrickShape(), currentX, currentY);
+
+        return new ViewData(
+                brickRotator.getCurrentShape(),
+                currentX,
+                currentY,
+                brickGenerator.getNextBrick().getRotations().get(0).toMatrix(),
+                ghostY
+        );
+    }
+
+    @Override
+    public FrameSnapshot getFrameSnapshot() {
+        BrickShape shape = brickRotator.getCurrentBrickShape();
+        return frameBuffer.publish(shape, currentX, currentY, getLandingY(shape, currentX, currentY),
+                brickGenerator.getNextBrick().getRotations().get(0));
+    }
+
+    /**
+     * Calculates where a brick would land if dropped straight down from (x, y).
+     * Uses the column-height profile, so bots can query every candidate placement cheaply.
+     *
+     * @param shape Brick rotation state to drop
+     * @param x Column of the brick
+     * @param y Starting row of the brick (must be a free position)
+     * @return Landing row
+     */
+    public int getLandingY(BrickShape shape, int x, int y) {
+        return GhostBrickCalculator.calculateLandingY(currentGameMatrix, columnHeights, shape, x, y);
+    }
+
+    /**
+     * Gets the height of one column, measured from the floor to its highest filled cell.
+     *
+     * @param column Board column
+     * @return Column height, 0 for an empty column
+     */
+    public int getColumnHeight(int column) {
+        return columnHeights[column];
+    }
+
+    /**
+     * Gets the number of filled cells in one row.
+     *
+     * @param row Board row
+     * @return Filled cell count, equal to the column count for a full row
+     */
+    public int getRowFillCount(int row) {
+        return rowFillCounts[row];
+    }
+
+    /**
+     * Gets the shared rotation state of the falling brick.
+     * Lets policies evaluate placements without building view data.
+     */
+    public BrickShape getCurrentBrickShape() {
+        return brickRotator.getCurrentBrickShape();
+    }
+
+    public int getCurrentX() {
+        return currentX;
+    }
+
+    public int getCurrentY() {
+        return currentY;
+    }
+
+    /**
+     * Merges the current brick into the board's background matrix.
+     * Called when brick lands and becomes part of the static board.
+     * Writes the cells in place, raises the column heights and row fill counts
+     * under them and marks the touched rows for the next clearRows call.
+     */
+    @Override
+    public void mergeBrickToBackground() {
+        BrickShape shape = brickRotator.getCurrentBrickShape();
+        for (int k = 0; k < shape.getCellCount(); k++) {
+            int column = currentX + shape.getCellX(k);
+            int row = currentY + shape.getCellY(k);
+            if (currentGameMatrix[row][column] == 0) {
+                rowFillCounts[row]++;
+            }
+            currentGameMatrix[row][column] = shape.getColorCode();
+            int cellHeight = width - row;
+            if (cellHeight > columnHeights[column]) {
+                columnHeights[column] = cellHeight;
+            }
+        }
+        checkTopRow = Math.min(checkTopRow, currentY + shape.getMinY());
+        checkBottomRow = Math.max(checkBottomRow, currentY + shape.getMaxY());
+    }
+
+    /**
+     * Replaces the board contents with a copy of the given matrix.
+     * Used to set up fixed positions for tests and benchmarks.
+     *
+     * @param matrix Board contents indexed as [row][column]
+     * @throws IllegalArgumentException if the matrix does not match the board size
+     */
+    public void loadMatrix(int[][] matrix) {
+        if (matrix.length != width || matrix[0].length != height) {
+            throw new IllegalArgumentException("Matrix does not match board size: "
+                    + matrix.length + "x" + matrix[0].length);
+        }
+        for (int row = 0; row < width; row++) {
+            System.arraycopy(matrix[row], 0, currentGameMatrix[row], 0, height);
+        }
+        rebuildCaches();
+    }
+
+    /**
+     * Recomputes column heights and row fill counts from the matrix
+     * and marks every row for the next clearRows call.
+     * Needed whenever cells are written outside mergeBrickToBackground;
+     * package-private so tests can fill rows directly.
+     */
+    void rebuildCaches() {
+        for (int column = 0; column < height; column++) {
+            columnHeights[column] = width - surfaceRow(column);
+        }
+        for (int row = 0; row < width; row++) {
+            int count = 0;
+            for (int cell : currentGameMatrix[row]) {
+                if (cell != 0) {
+                    count++;
+                }
+            }
+            rowFillCounts[row] = count;
+        }
+        checkTopRow = 0;
+        checkBottomRow = width - 1;
+    }
+
+    /**
+     * Finds the highest filled row of a column.
+     *
+     * @param column Board column
+     * @return Row index, or width if the column is empty
+     */
+    private int surfaceRow(int column) {
+        int row = 0;
+        while (row < width && currentGameMatrix[row][column] == 0) {
+            row++;
+        }
+        return row;
+    }
+
+    /**
+     * Removes the full rows among those marked since the last call.
+     * Rows are compacted in place by moving row references downwards; the removed
+     * row arrays are wiped and reused at the top, so nothing is allocated.
+     *
+     * @return Indices of the removed rows, top to bottom
+     */
+    private int[] removeFullRows() {
+        int removed = 0;
+        for (int row = checkTopRow; row <= checkBottomRow; row++) {
+            if (rowFillCounts[row] == height) {
+                removed++;
+            }
+        }
+        if (removed == 0) {
+            return NO_ROWS;
+        }
+
+        int[] cleared = new int[removed];
+        int found = 0;
+        for (int row = checkTopRow; row <= checkBottomRow; row++) {
+            if (rowFillCounts[row] == height) {
+                cleared[found++] = row;
+            }
+        }
+
+        int write = checkBottomRow;
+        int spare = 0;
+        for (int read = checkBottomRow; read >= 0; read--) {
+            if (rowFillCounts[read] == height) {
+                spareRows[spare++] = currentGameMatrix[read];
+                continue;
+            }
+            if (write != read) {
+                currentGameMatrix[write] = currentGameMatrix[read];
+                rowFillCounts[write] = rowFillCounts[read];
+            }
+            write--;
+        }
+        for (; write >= 0; write--) {
+            int[] row = spareRows[--spare];
+            spareRows[spare] = null;
+            Arrays.fill(row, 0);
+            currentGameMatrix[write] = row;
+            rowFillCounts[write] = 0;
+        }
+
+        // Every cleared row was full, so a column keeps its surface cell unless the
+        // surface itself was cleared; only those columns need a rescan.
+        for (int column = 0; column < height; column++) {
+            int surface = width - columnHeights[column];
+            if (surface > cleared[0]) {
+                continue;
+            }
+            if (surface < cleared[0]) {
+                columnHeights[column] -= removed;
+            } else {
+                columnHeights[column] = width - surfaceRow(column);
+            }
+        }
+        return cleared;
+    }
+
+
+    /**
+     * Checks for and clears any complete rows on the board.
+     * Updates level-specific managers and calculates score bonuses.
+     * Handles lava updates and target block tracking for special modes.
+     *
+     * @return ClearRow object containing lines removed count, new matrix, and score bonus
+     */
+    //updated for the new lava level
+    @Override
+    public ClearRow clearRows() {
+        int[] clearedRows = removeFullRows();
+        checkTopRow = width;
+        checkBottomRow = -1;
+        int linesRemoved = clearedRows.length;
+        int scoreBonus = GameConstants.SCORE_BASE_MULTIPLIER * linesRemoved * linesRemoved;
+        ClearRow clearRow = new ClearRow(linesRemoved, currentGameMatrix, scoreBonus, clearedRows);
+
+        if (clearRow.getLinesRemoved() > 0) {
+            levelLinesCleared += clearRow.getLinesRemoved();
+
+            // Record line clear in lava mode
+            if (lavaManager.isActive()) {
+                lavaManager.recordLineClear();
+            }
+        }
+
+        // Update lava position if active
+        if (lavaManager.isActive()) {
+            lavaManager.update();
+        }
+
+        return clearRow;
+    }
+
+
+    /**
+     * Retrieves the current score tracker.
+     *
+     * @return Score object tracking player's current score
+     */
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+
+    /**
+     * Resets the board for a new game session.
+     * Clears matrix, resets score, returns to Classic level, and spawns first brick.
+     */
+    @Override
+    public void newGame() {
+        currentGameMatrix = new int[width][height];
+        rebuildCaches();
+        score.reset();
+        currentLevel = GameLevel.CLASSIC;  // update for lava game
+        levelLinesCleared = 0;             // update for lava game
+        lavaManager.reset();               // update for lava game
+        createNewBrick();
+    }
+
+    /**
+     * Checks if any blocks exist in the spawn area (top 2 hidden rows).
+     * This indicates game over.
+     */
+    public boolean isGameOverCondition() {
+        // Check rows 0 and 1 (spawn area)
+        for (int row = 0; row < 2; row++) {
+            for (int col = 0; col < currentGameMatrix[row].length; col++) {
+                if (currentGameMatrix[row][col] != 0) {
+                    return true; // Block in spawn area = game over
+                }
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * Gets current game level.
+     *
+     * @return Current level
+     */
+    public GameLevel getCurrentLevel() {
+        return currentLevel;
+    }
+
+    /**
+     * Gets lava manager instance.
+     *
+     * @return LavaManager
+     */
+    public LavaManager getLavaManager() {
+        return lavaManager;
+    }
+
+    /**
+     * Checks if player should advance to next level.
+     *
+     * @return true if ready to level up
+     */
+    public boolean shouldLevelUp() {
+        if (currentLevel == GameLevel.TARGET_CHALLENGE) {
+            return targetChallengeManager.isMissionComplete();
+        }
+        return levelLinesCleared >= currentLevel.getLinesRequiredToAdvance();
+    }
+
+    /**
+     * Advances to the next level and resets board.
+     */
+    public void advanceToNextLevel() {
+        currentLevel = currentLevel.getNextLevel();
+        levelLinesCleared = 0;
+
+        // Clear the board
+        currentGameMatrix = new int[width][height];
+
+        // Deactivate previous level features
+        lavaManager.deactivate();
+        targetChallengeManager.deactivate();
+
+        // Activate features for new level
+        if (currentLevel == GameLevel.LAVA_SURVIVAL) {
+            lavaManager.activate();
+        } else if (currentLevel == GameLevel.TARGET_CHALLENGE) {
+            targetChallengeManager.activate();
+            targetChallengeManager.generatePattern(currentGameMatrix, width, height);
+        }
+        rebuildCaches();
+
+        // Create new brick for the new level
+        createNewBrick();
+    }
+
+    /**
+     * Checks if lava has collided with blocks (game over condition).
+     *
+     * @return true if lava touched blocks
+     */
+    public boolean checkLavaGameOver() {
+        return lavaManager.isActive() && lavaManager.checkLavaCollision(currentGameMatrix);
+    }
+
+
+    /**
+     * Gets the TargetChallengeManager instance.
+     *
+     * @return TargetChallengeManager
+     */
+    public TargetChallengeManager getTargetChallengeManager() {
+        return targetChallengeManager;
+    }
+
+    /**
+     * Checks if target challenge timer has expired.
+     *
+     * @return true if time is up
+     */
+    public boolean checkTargetChallengeTimeout() {
+        return targetChallengeManager.isActive() && targetChallengeManager.updateTimer();
+    }
+}
@@ -2,6 +2,7 @@ package com.comp2042.model.game;
 
 import java.awt.Point;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Manages the Target Challenge level mechanics (Level 3).
@@ -37,7 +38,8 @@ public class TargetChallengeManager {
     }
 
     private static final int TIME_LIMIT_SECONDS = 180; // 3 minutes
-    private static final Random random = new Random();
+    private final SplittableRandom random;
+    private final GameClock clock;
 
     private boolean active;
     private MissionType currentMission;
@@ -48,9 +50,30 @@ public class TargetChallengeManager {
     private boolean missionComplete;
 
     /**
-     * Creates a new TargetChallengeManager.
+     * Creates a new TargetChallengeManager with a random seed.
      */
     public TargetChallengeManager() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a new TargetChallengeManager timed by the system clock.
+     *
+     * @param seed Seed for mission selection
+     */
+    public TargetChallengeManager(long seed) {
+        this(seed, GameClock.SYSTEM);
+    }
+
+    /**
+     * Creates a new TargetChallengeManager whose mission choices replay from a seed.
+     *
+     * @param seed Seed for mission selection
+     * @param clock Source of game time for the countdown
+     */
+    public TargetChallengeManager(long seed, GameClock clock) {
+        this.random = new SplittableRandom(seed);
+        this.clock = clock;
         this.active = false;
         this.targetBlockPositions = new HashSet<>();
         this.missionComplete = false;
@@ -64,7 +87,7 @@ public class TargetChallengeManager {
         active = true;
         missionComplete = false;
         selectRandomMission();
-        startTime = System.currentTimeMillis();
+        startTime = clock.nanoTime();
         elapsedSeconds = 0;
     }
 
@@ -189,8 +212,8 @@ public class TargetChallengeManager {
     public boolean updateTimer() {
         if (!active) return false;
 
-        long currentTime = System.currentTimeMillis();
-        elapsedSeconds = (int) ((currentTime - startTime) / 1000);
+        long currentTime = clock.nanoTime();
+        elapsedSeconds = (int) ((currentTime - startTime) / 1_000_000_000L);
 
         return elapsedSeconds >= TIME_LIMIT_SECONDS;
     }
@@ -0,0 +1,280 @@
+package com.comp2042.model.scoring;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Manages high scores persistence and retrieval.
+ * Scores are loaded once and kept in memory, sorted highest first. Changes are
+ * written by a background thread, so adding a score never blocks the caller on
+ * disk I/O. Bursts of changes are coalesced into one write. Every write goes to
+ * a temporary file that then replaces the score file with an atomic move, so a
+ * crash mid-write leaves the previous table intact.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class HighScoreManager implements AutoCloseable {
+
+    private static final String SCORE_FILE = "highscores.txt";
+    private static final int MAX_SCORES = 10;
+    /** How long the writer waits for further changes before writing. */
+    private static final long COALESCE_MS = 200;
+
+    private final Path file;
+    private final int[] scores = new int[MAX_SCORES];
+    private int count;
+    /** Incremented on every change; compared with the last written version. */
+    private long version;
+    private long writtenVersion;
+    private boolean writePending;
+    private ExecutorService writer;
+    private final Object writeLock = new Object();
+
+    /**
+     * Holds the shared store, created and loaded on first use.
+     */
+    private static final class DefaultHolder {
+        private static final HighScoreManager INSTANCE = createDefault();
+
+        private static HighScoreManager createDefault() {
+            HighScoreManager manager = new HighScoreManager(Paths.get(SCORE_FILE));
+            Runtime.getRuntime().addShutdownHook(new Thread(manager::close, "high-score-flush"));
+            return manager;
+        }
+    }
+
+    /**
+     * Returns the shared store backed by highscores.txt in the working directory.
+     * The file is read on the first call only, and pending changes are flushed
+     * when the JVM shuts down.
+     *
+     * @return The shared high score store
+     */
+    public static HighScoreManager getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Starts loading the shared instance on a daemon thread, e.g. at menu startup,
+     * so the first {@link #getDefault()} call on the UI thread finds it ready
+     * instead of reading the file there.
+     */
+    public static void preloadDefault() {
+        Thread loader = new Thread(HighScoreManager::getDefault, "high-score-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Creates high score manager and loads existing scores from the given file.
+     *
+     * @param file Score file, one score per line
+     */
+    public HighScoreManager(Path file) {
+        this.file = file;
+        loadScores();
+    }
+
+    /**
+     * Adds a new score and schedules a save.
+     * Scores below the lowest entry of a full table are ignored.
+     *
+     * @param score Score to add
+     */
+    public synchronized void addScore(int score) {
+        if (insert(score)) {
+            version++;
+            scheduleWrite();
+        }
+    }
+
+    /**
+     * Gets all high scores sorted.
+     * @return List of scores
+     */
+    public synchronized List<Integer> getHighScores() {
+        List<Integer> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(scores[i]);
+        }
+        return list;
+    }
+
+    /**
+     * Gets the highest score.
+     * @return Highest score or 0
+     */
+    public synchronized int getTopScore() {
+        return count == 0 ? 0 : scores[0];
+    }
+
+    /**
+     * Writes any pending changes now, on the calling thread.
+     */
+    public void flush() {
+        writeIfChanged();
+    }
+
+    /**
+     * Flushes pending changes and stops the background writer.
+     */
+    @Override
+    public void close() {
+        ExecutorService executor;
+        synchronized (this) {
+            executor = writer;
+            writer = null;
+        }
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        writeIfChanged();
+    }
+
+    /**
+     * Queues a write unless one is already waiting, which will pick up this change too.
+     */
+    private void scheduleWrite() {
+        if (writePending) {
+            return;
+        }
+        if (writer == null) {
+            writer = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, "high-score-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        writePending = true;
+        writer.execute(() -> {
+            try {
+                Thread.sleep(COALESCE_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (this) {
+                writePending = false;
+            }
+            writeIfChanged();
+        });
+    }
+
+    /**
+     * Saves the current table if it changed since the last save.
+     */
+    private void writeIfChanged() {
+        synchronized (writeLock) {
+            int[] snapshot;
+            long snapshotVersion;
+            synchronized (this) {
+                if (version == writtenVersion) {
+                    return;
+                }
+                snapshot = new int[count];
+                System.arraycopy(scores, 0, snapshot, 0, count);
+                snapshotVersion = version;
+            }
+            try {
+                saveScores(snapshot);
+                synchronized (this) {
+                    writtenVersion = snapshotVersion;
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Loads scores from file.
+     */
+    private void loadScores() {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return; // File doesn't exist yet, that's okay
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+        for (String line : lines) {
+            try {
+                insert(Integer.parseInt(line.trim()));
+            } catch (NumberFormatException e) {
+                // Skip damaged lines and keep the rest of the table
+            }
+        }
+    }
+
+    /**
+     * Inserts a score into the sorted table, dropping the lowest entry when full.
+     *
+     * @param score Score to insert
+     * @return true if the table changed
+     */
+    private boolean insert(int score) {
+        if (count == MAX_SCORES && score <= scores[count - 1]) {
+            return false;
+        }
+        int i = Math.min(count, MAX_SCORES - 1);
+        while (i > 0 && scores[i - 1] < score) {
+            scores[i] = scores[i - 1];
+            i--;
+        }
+        scores[i] = score;
+        count = Math.min(count + 1, MAX_SCORES);
+        return true;
+    }
+
+    /**
+     * Saves scores to a temporary file, forces it to disk and moves it over the score file.
+     *
+     * @param snapshot Scores to save, highest first
+     * @throws IOException if the file cannot be written or replaced
+     */
+    private void saveScores(int[] snapshot) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Path temp = directory.resolve(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             BufferedWriter writer = new BufferedWriter(
+                     new OutputStreamWriter(Channels.newOutputStream(channel),
+                             StandardCharsets.UTF_8))) {
+            for (int score : snapshot) {
+                writer.write(Integer.toString(score));
+                writer.newLine();
+            }
+            writer.flush();
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
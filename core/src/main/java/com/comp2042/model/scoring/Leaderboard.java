@@ -0,0 +1,113 @@
+package com.comp2042.model.scoring;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Leaderboard of one game mode.
+ * Keeps the best records in a bounded heap with the weakest entry on top, so
+ * each new result costs O(log K) for a top-K board. Every score ever added also
+ * goes into a {@link ScoreIndex}, which answers rank and percentile queries
+ * over all results in O(log n) without sorting.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class Leaderboard {
+
+    private final int capacity;
+    private final PriorityQueue<ScoreRecord> top;
+    private final ScoreIndex index = new ScoreIndex();
+
+    /**
+     * Creates an empty leaderboard.
+     *
+     * @param capacity Number of best records kept in full
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public Leaderboard(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.top = new PriorityQueue<>(capacity, ScoreRecord.BEST_FIRST.reversed());
+    }
+
+    /**
+     * Adds a result.
+     *
+     * @param record Finished game
+     * @return true if the record made the top of the board
+     */
+    public synchronized boolean add(ScoreRecord record) {
+        index.add(record.getScore());
+        if (top.size() < capacity) {
+            top.add(record);
+            return true;
+        }
+        if (ScoreRecord.BEST_FIRST.compare(record, top.peek()) < 0) {
+            top.poll();
+            top.add(record);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the best records.
+     *
+     * @return Up to capacity records, best first
+     */
+    public synchronized List<ScoreRecord> getTop() {
+        List<ScoreRecord> list = new ArrayList<>(top);
+        list.sort(ScoreRecord.BEST_FIRST);
+        return list;
+    }
+
+    /**
+     * Gets the rank a score would have among all results.
+     *
+     * @param score Score to rank
+     * @return 1 plus the number of strictly higher scores
+     */
+    public synchronized int getRank(int score) {
+        return index.countAbove(score) + 1;
+    }
+
+    /**
+     * Gets the share of all results that a score beats.
+     *
+     * @param score Score to compare
+     * @return Percentage of results strictly below the score, 0 when empty
+     */
+    public synchronized double getPercentile(int score) {
+        int size = index.size();
+        return size == 0 ? 0 : 100.0 * index.countBelow(score) / size;
+    }
+
+    /**
+     * Gets the score at a rank among all results.
+     *
+     * @param rank Rank starting at 1 for the best score
+     * @return The score at that rank
+     * @throws IndexOutOfBoundsException if fewer results are recorded
+     */
+    public synchronized int getScoreAtRank(int rank) {
+        return index.get(rank - 1);
+    }
+
+    /**
+     * Gets the number of results ever added.
+     *
+     * @return Result count
+     */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
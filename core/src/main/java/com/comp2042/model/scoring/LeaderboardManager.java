@@ -0,0 +1,264 @@
+package com.comp2042.model.scoring;
+
+import com.comp2042.model.game.GameLevel;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-mode leaderboards backed by an append-only record file.
+ * The file is read once, one {@link ScoreRecord} per line, into a
+ * {@link Leaderboard} per {@link GameLevel}. New records are queried in memory
+ * straight away and appended by a background writer that batches bursts into
+ * one write. A line cut short by a crash is skipped on the next load.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class LeaderboardManager implements AutoCloseable {
+
+    private static final String LEADERBOARD_FILE = "leaderboard.tsv";
+    public static final int DEFAULT_CAPACITY = 10;
+    /** How long the writer waits for further records before appending. */
+    private static final long COALESCE_MS = 200;
+
+    private final Path file;
+    private final Map<GameLevel, Leaderboard> boards = new EnumMap<>(GameLevel.class);
+    private List<ScoreRecord> pending = new ArrayList<>();
+    private boolean appendQueued;
+    /** true if the file ends in a partial line that must be terminated before appending. */
+    private boolean needsLineBreak;
+    private int skippedLines;
+    private ExecutorService writer;
+    private final Object writeLock = new Object();
+
+    /**
+     * Holds the shared manager, created and loaded on first use.
+     */
+    private static final class DefaultHolder {
+        private static final LeaderboardManager INSTANCE = createDefault();
+
+        private static LeaderboardManager createDefault() {
+            LeaderboardManager manager = new LeaderboardManager(Paths.get(LEADERBOARD_FILE), DEFAULT_CAPACITY);
+            Runtime.getRuntime().addShutdownHook(new Thread(manager::close, "leaderboard-flush"));
+            return manager;
+        }
+    }
+
+    /**
+     * Returns the shared manager backed by leaderboard.tsv in the working directory.
+     *
+     * @return The shared leaderboard manager
+     */
+    public static LeaderboardManager getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Starts loading the shared instance on a daemon thread, e.g. at menu startup,
+     * so the first {@link #getDefault()} call on the UI thread finds it ready
+     * instead of reading the file there.
+     */
+    public static void preloadDefault() {
+        Thread loader = new Thread(LeaderboardManager::getDefault, "leaderboard-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Creates a manager and loads the records in the given file.
+     *
+     * @param file Record file, one record per line
+     * @param capacity Number of best records each leaderboard keeps in full
+     */
+    public LeaderboardManager(Path file, int capacity) {
+        this.file = file;
+        for (GameLevel level : GameLevel.values()) {
+            boards.put(level, new Leaderboard(capacity));
+        }
+        loadRecords();
+    }
+
+    /**
+     * Adds a finished game to its mode's leaderboard and schedules it to be appended.
+     *
+     * @param record Finished game
+     */
+    public void record(ScoreRecord record) {
+        boards.get(record.getLevel()).add(record);
+        synchronized (this) {
+            pending.add(record);
+            scheduleWrite();
+        }
+    }
+
+    /**
+     * Adds many finished games, e.g. the results of a simulation run.
+     *
+     * @param records Finished games
+     */
+    public void recordAll(Collection<ScoreRecord> records) {
+        for (ScoreRecord record : records) {
+            boards.get(record.getLevel()).add(record);
+        }
+        synchronized (this) {
+            pending.addAll(records);
+            scheduleWrite();
+        }
+    }
+
+    /**
+     * Gets the leaderboard of a mode.
+     *
+     * @param level Game mode
+     * @return The mode's leaderboard
+     */
+    public Leaderboard getLeaderboard(GameLevel level) {
+        return boards.get(level);
+    }
+
+    /**
+     * Gets the number of stored lines that could not be read on load.
+     *
+     * @return Skipped line count
+     */
+    public int getSkippedLines() {
+        return skippedLines;
+    }
+
+    /**
+     * Appends any pending records now, on the calling thread.
+     */
+    public void flush() {
+        appendPending();
+    }
+
+    /**
+     * Flushes pending records and stops the background writer.
+     */
+    @Override
+    public void close() {
+        ExecutorService executor;
+        synchronized (this) {
+            executor = writer;
+            writer = null;
+        }
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        appendPending();
+    }
+
+    /**
+     * Queues an append unless one is already waiting, which will pick up these records too.
+     */
+    private void scheduleWrite() {
+        if (appendQueued) {
+            return;
+        }
+        if (writer == null) {
+            writer = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, "leaderboard-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        appendQueued = true;
+        writer.execute(() -> {
+            try {
+                Thread.sleep(COALESCE_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (this) {
+                appendQueued = false;
+            }
+            appendPending();
+        });
+    }
+
+    /**
+     * Appends the records queued since the last append.
+     */
+    private void appendPending() {
+        synchronized (writeLock) {
+            List<ScoreRecord> batch;
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = pending;
+                pending = new ArrayList<>();
+            }
+            try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                if (needsLineBreak) {
+                    out.newLine();
+                    needsLineBreak = false;
+                }
+                for (ScoreRecord record : batch) {
+                    out.write(record.toLine());
+                    out.newLine();
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Loads records from file, skipping lines that do not parse.
+     */
+    private void loadRecords() {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) continue;
+                try {
+                    ScoreRecord record = ScoreRecord.parse(line);
+                    boards.get(record.getLevel()).add(record);
+                } catch (IllegalArgumentException e) {
+                    skippedLines++;
+                }
+            }
+        } catch (NoSuchFileException e) {
+            return; // File doesn't exist yet, that's okay
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+        needsLineBreak = endsWithPartialLine();
+    }
+
+    private boolean endsWithPartialLine() {
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r")) {
+            if (raf.length() == 0) return false;
+            raf.seek(raf.length() - 1);
+            return raf.read() != '\n';
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
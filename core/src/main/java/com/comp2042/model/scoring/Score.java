@@ -0,0 +1,54 @@
+package com.comp2042.model.scoring;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plain score counter for one game.
+ * Listeners are optional; headless games usually register none,
+ * so updating the score is just an int addition.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public final class Score {
+
+    private int score;
+    private final List<ScoreListener> listeners = new ArrayList<>(1);
+
+    public void add(int i) {
+        setScore(score + i);
+    }
+
+    public void reset() {
+        setScore(0);
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Registers a listener that is notified on every score change.
+     *
+     * @param listener Listener to add
+     */
+    public void addListener(ScoreListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(ScoreListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void setScore(int newScore) {
+        int oldScore = score;
+        score = newScore;
+        if (oldScore != newScore) {
+            for (ScoreListener listener : listeners) {
+                listener.scoreChanged(oldScore, newScore);
+            }
+        }
+    }
+}
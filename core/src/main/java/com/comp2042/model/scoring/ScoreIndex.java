@@ -0,0 +1,149 @@
+package com.comp2042.model.scoring;
+
+import java.util.SplittableRandom;
+
+/**
+ * Indexable skip list of scores, highest first, with duplicates.
+ * Every forward link stores how many positions it skips, so inserting a score,
+ * counting the scores above a value and finding the score at a rank all take
+ * O(log n) expected time without sorting.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class ScoreIndex {
+
+    private static final int MAX_LEVEL = 32;
+
+    private final Node head = new Node(Integer.MAX_VALUE, MAX_LEVEL);
+    /** Fixed seed, so the list shape and performance are reproducible. */
+    private final SplittableRandom random = new SplittableRandom(0x5C0E5L);
+    private int level = 1;
+    private int size;
+
+    /**
+     * Creates an empty index.
+     */
+    public ScoreIndex() {
+        head.width[0] = 1;
+    }
+
+    /**
+     * Adds a score. Equal scores are kept in insertion order.
+     *
+     * @param score Score to add
+     */
+    public void add(int score) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] position = new int[MAX_LEVEL];
+        Node node = head;
+        int index = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && node.next[i].score >= score) {
+                index += node.width[i];
+                node = node.next[i];
+            }
+            update[i] = node;
+            position[i] = index;
+        }
+
+        int newLevel = randomLevel();
+        if (newLevel > level) {
+            for (int i = level; i < newLevel; i++) {
+                update[i] = head;
+                position[i] = 0;
+                head.width[i] = size + 1;
+            }
+            level = newLevel;
+        }
+
+        Node inserted = new Node(score, newLevel);
+        for (int i = 0; i < newLevel; i++) {
+            inserted.next[i] = update[i].next[i];
+            update[i].next[i] = inserted;
+            inserted.width[i] = update[i].width[i] - (index - position[i]);
+            update[i].width[i] = index + 1 - position[i];
+        }
+        for (int i = newLevel; i < level; i++) {
+            update[i].width[i]++;
+        }
+        size++;
+    }
+
+    /**
+     * Counts the scores strictly higher than the given score.
+     *
+     * @param score Score to compare with
+     * @return Number of higher scores
+     */
+    public int countAbove(int score) {
+        Node node = head;
+        int index = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && node.next[i].score > score) {
+                index += node.width[i];
+                node = node.next[i];
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Counts the scores strictly lower than the given score.
+     *
+     * @param score Score to compare with
+     * @return Number of lower scores
+     */
+    public int countBelow(int score) {
+        if (score == Integer.MIN_VALUE) return 0;
+        return size - countAbove(score - 1);
+    }
+
+    /**
+     * Returns the score at a rank, counting from the highest.
+     *
+     * @param rank Zero-based rank
+     * @return The score at that rank
+     * @throws IndexOutOfBoundsException if the rank is outside the index
+     */
+    public int get(int rank) {
+        if (rank < 0 || rank >= size) {
+            throw new IndexOutOfBoundsException("Rank " + rank + " of " + size);
+        }
+        Node node = head;
+        int index = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && index + node.width[i] <= rank + 1) {
+                index += node.width[i];
+                node = node.next[i];
+            }
+        }
+        return node.score;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int randomLevel() {
+        int result = 1;
+        while (result < MAX_LEVEL && random.nextBoolean()) {
+            result++;
+        }
+        return result;
+    }
+
+    private static final class Node {
+        private final int score;
+        private final Node[] next;
+        /** Positions skipped by each forward link. */
+        private final int[] width;
+
+        Node(int score, int levels) {
+            this.score = score;
+            this.next = new Node[levels];
+            this.width = new int[levels];
+        }
+    }
+}
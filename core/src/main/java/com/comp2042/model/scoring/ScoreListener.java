@@ -0,0 +1,21 @@
+package com.comp2042.model.scoring;
+
+/**
+ * Callback for score changes.
+ * Lets a view follow the score without the core module depending on JavaFX.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+@FunctionalInterface
+public interface ScoreListener {
+
+    /**
+     * Called after the score has changed.
+     *
+     * @param oldScore Score before the change
+     * @param newScore Score after the change
+     */
+    void scoreChanged(int oldScore, int newScore);
+}
@@ -0,0 +1,147 @@
+package com.comp2042.model.scoring;
+
+import com.comp2042.model.game.GameLevel;
+
+import java.util.Comparator;
+import java.util.OptionalLong;
+
+/**
+ * One finished game on a leaderboard: who played, in which mode, and how it went.
+ * Records are stored one per line as tab separated fields, with the player name
+ * last so it may contain spaces. The game's seed, when known, is stored too so
+ * the game can be replayed; lines written before it was added are still read.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public final class ScoreRecord {
+
+    /** Orders records best first: higher score, then earlier timestamp. */
+    public static final Comparator<ScoreRecord> BEST_FIRST =
+            Comparator.comparingInt(ScoreRecord::getScore).reversed()
+                    .thenComparingLong(ScoreRecord::getTimestamp);
+
+    private static final int FIELDS = 7;
+    private static final int FIELDS_WITHOUT_SEED = 6;
+    private static final String NO_SEED = "-";
+
+    private final String player;
+    private final GameLevel level;
+    private final int score;
+    private final int lines;
+    private final long durationMillis;
+    private final long timestamp;
+    private final OptionalLong seed;
+
+    /**
+     * Creates a record for a game whose seed is not known.
+     *
+     * @param player Player name; tabs and line breaks are replaced with spaces
+     * @param level Mode the game ended in
+     * @param score Final score
+     * @param lines Total lines cleared
+     * @param durationMillis Game time played
+     * @param timestamp When the game ended, in epoch milliseconds
+     */
+    public ScoreRecord(String player, GameLevel level, int score, int lines,
+                       long durationMillis, long timestamp) {
+        this(player, level, score, lines, durationMillis, timestamp, OptionalLong.empty());
+    }
+
+    /**
+     * Creates a record for a game that replays from the given seed.
+     *
+     * @param player Player name; tabs and line breaks are replaced with spaces
+     * @param level Mode the game ended in
+     * @param score Final score
+     * @param lines Total lines cleared
+     * @param durationMillis Game time played
+     * @param timestamp When the game ended, in epoch milliseconds
+     * @param seed Seed the game was played from
+     */
+    public ScoreRecord(String player, GameLevel level, int score, int lines,
+                       long durationMillis, long timestamp, long seed) {
+        this(player, level, score, lines, durationMillis, timestamp, OptionalLong.of(seed));
+    }
+
+    private ScoreRecord(String player, GameLevel level, int score, int lines,
+                        long durationMillis, long timestamp, OptionalLong seed) {
+        this.player = player.replaceAll("[\\t\\r\\n]", " ");
+        this.level = level;
+        this.score = score;
+        this.lines = lines;
+        this.durationMillis = durationMillis;
+        this.timestamp = timestamp;
+        this.seed = seed;
+    }
+
+    /**
+     * Parses a record written by {@link #toLine()}, or an older line without the seed.
+     *
+     * @param line One stored line
+     * @return The parsed record
+     * @throws IllegalArgumentException if the line is not a valid record
+     */
+    public static ScoreRecord parse(String line) {
+        String[] fields = line.split("\t", FIELDS);
+        if (fields.length == FIELDS_WITHOUT_SEED) {
+            return new ScoreRecord(fields[5], GameLevel.valueOf(fields[0]), Integer.parseInt(fields[1]),
+                    Integer.parseInt(fields[2]), Long.parseLong(fields[3]), Long.parseLong(fields[4]));
+        }
+        if (fields.length != FIELDS) {
+            throw new IllegalArgumentException("Expected " + FIELDS + " fields: " + line);
+        }
+        OptionalLong seed = fields[5].equals(NO_SEED)
+                ? OptionalLong.empty() : OptionalLong.of(Long.parseLong(fields[5]));
+        return new ScoreRecord(fields[6], GameLevel.valueOf(fields[0]), Integer.parseInt(fields[1]),
+                Integer.parseInt(fields[2]), Long.parseLong(fields[3]), Long.parseLong(fields[4]), seed);
+    }
+
+    /**
+     * Formats this record as one line without the line break.
+     *
+     * @return level, score, lines, duration, timestamp, seed and player, tab separated
+     */
+    public String toLine() {
+        String seedField = seed.isPresent() ? Long.toString(seed.getAsLong()) : NO_SEED;
+        return level.name() + '\t' + score + '\t' + lines + '\t' + durationMillis + '\t' + timestamp
+                + '\t' + seedField + '\t' + player;
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public GameLevel getLevel() {
+        return level;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return Seed the game replays from, or empty for games recorded without one
+     */
+    public OptionalLong getSeed() {
+        return seed;
+    }
+
+    @Override
+    public String toString() {
+        return player + " " + score + " (" + level + ", " + lines + " lines)";
+    }
+}
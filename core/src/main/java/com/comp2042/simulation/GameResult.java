@@ -0,0 +1,76 @@
+package com.comp2042.simulation;
+
+import com.comp2042.model.game.GameLevel;
+
+/**
+ * Outcome of one simulated game.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public final class GameResult {
+
+    private final long seed;
+    private final GameLevel finalLevel;
+    private final int levelUps;
+    private final int score;
+    private final int lines;
+    private final int pieces;
+    private final boolean gameOver;
+    private final long durationNanos;
+
+    /**
+     * @param seed Seed the game was played with
+     * @param finalLevel Level the board was on when the game stopped
+     * @param levelUps Number of level advances during the game
+     * @param score Final score
+     * @param lines Total lines cleared
+     * @param pieces Bricks placed
+     * @param gameOver true if the game ended, false if it hit the piece cap
+     * @param durationNanos Wall time spent on the game
+     */
+    public GameResult(long seed, GameLevel finalLevel, int levelUps, int score, int lines,
+                      int pieces, boolean gameOver, long durationNanos) {
+        this.seed = seed;
+        this.finalLevel = finalLevel;
+        this.levelUps = levelUps;
+        this.score = score;
+        this.lines = lines;
+        this.pieces = pieces;
+        this.gameOver = gameOver;
+        this.durationNanos = durationNanos;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public GameLevel getFinalLevel() {
+        return finalLevel;
+    }
+
+    public int getLevelUps() {
+        return levelUps;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public int getPieces() {
+        return pieces;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+}
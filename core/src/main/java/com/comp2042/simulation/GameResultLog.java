@@ -0,0 +1,245 @@
+package com.comp2042.simulation;
+
+import com.comp2042.model.game.GameLevel;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Append-only binary log of finished games.
+ * Each {@link GameResult} is one fixed {@value #RECORD_SIZE} byte record written
+ * through a memory-mapped segment file, so appending is a handful of buffer
+ * puts with no system call. A segment holds a fixed number of records; when it
+ * is full the log rolls over to the next file. Every segment starts with a
+ * header whose record count is updated after each record, so a crash can lose
+ * the last records but never exposes a half-written one. Segments are trimmed
+ * to their used length on close and reopened for appending by the next run.
+ * Read the log back with {@link GameResultReader}.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class GameResultLog implements AutoCloseable {
+
+    /** Bytes per record. */
+    public static final int RECORD_SIZE = 32;
+    /** Bytes of the segment header, kept equal to a record so records stay aligned. */
+    static final int HEADER_SIZE = 32;
+    static final int MAGIC = 0x47524C31; // "GRL1"
+    static final int FORMAT_VERSION = 1;
+    /** Offset of the record count in the header. */
+    static final int COUNT_OFFSET = 8;
+    static final int CAPACITY_OFFSET = 16;
+    /** Default records per segment: 1M records, 32 MiB per file. */
+    public static final int DEFAULT_SEGMENT_RECORDS = 1 << 20;
+
+    private static final String SEGMENT_PREFIX = "results-";
+    private static final String SEGMENT_SUFFIX = ".bin";
+
+    private final Path directory;
+    private final int segmentRecords;
+    private int segmentIndex;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private long segmentCount;
+    private long totalAppended;
+
+    /**
+     * Opens a log with the default segment size.
+     *
+     * @param directory Directory holding the segment files, created if missing
+     * @throws IOException if the directory or a segment cannot be opened
+     */
+    public GameResultLog(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_RECORDS);
+    }
+
+    /**
+     * Opens a log, continuing in its last segment if that one is not full.
+     *
+     * @param directory Directory holding the segment files, created if missing
+     * @param segmentRecords Records per segment file
+     * @throws IOException if the directory or a segment cannot be opened
+     * @throws IllegalArgumentException if segmentRecords is not positive or a segment would exceed 2 GiB
+     */
+    public GameResultLog(Path directory, int segmentRecords) throws IOException {
+        if (segmentRecords < 1 || segmentRecords > (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE) {
+            throw new IllegalArgumentException("segmentRecords out of range: " + segmentRecords);
+        }
+        this.directory = directory;
+        this.segmentRecords = segmentRecords;
+        Files.createDirectories(directory);
+
+        List<Path> segments = segments(directory);
+        segmentIndex = segments.isEmpty() ? 0 : segments.size() - 1;
+        openSegment();
+    }
+
+    /**
+     * Appends one result.
+     *
+     * @param result Finished game
+     * @throws IOException if a new segment cannot be created
+     */
+    public synchronized void append(GameResult result) throws IOException {
+        if (buffer == null) {
+            throw new IllegalStateException("Log is closed");
+        }
+        if (segmentCount == capacity()) {
+            closeSegment();
+            segmentIndex++;
+            openSegment();
+        }
+        int offset = HEADER_SIZE + (int) segmentCount * RECORD_SIZE;
+        encode(buffer, offset, result);
+        segmentCount++;
+        buffer.putLong(COUNT_OFFSET, segmentCount);
+        totalAppended++;
+    }
+
+    /**
+     * Appends many results in order.
+     *
+     * @param results Finished games
+     * @throws IOException if a new segment cannot be created
+     */
+    public synchronized void appendAll(Iterable<GameResult> results) throws IOException {
+        for (GameResult result : results) {
+            append(result);
+        }
+    }
+
+    /**
+     * Forces the current segment to disk.
+     */
+    public synchronized void flush() {
+        if (buffer != null) {
+            buffer.force();
+        }
+    }
+
+    /**
+     * Gets the number of records appended through this log instance.
+     *
+     * @return Records appended since opening
+     */
+    public synchronized long getAppended() {
+        return totalAppended;
+    }
+
+    /**
+     * Forces the current segment to disk and trims it to its used length.
+     *
+     * @throws IOException if the segment cannot be trimmed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (buffer != null) {
+            closeSegment();
+        }
+    }
+
+    /**
+     * Lists the segment files of a log in order.
+     *
+     * @param directory Log directory
+     * @return Segment paths, oldest first; empty if the directory does not exist
+     * @throws IOException if the directory cannot be listed
+     */
+    static List<Path> segments(Path directory) throws IOException {
+        List<Path> result = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return result;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(p -> {
+                String name = p.getFileName().toString();
+                return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+            }).sorted().forEach(result::add);
+        }
+        return result;
+    }
+
+    /**
+     * Writes a result at a buffer offset.
+     * Layout: seed, duration nanos, score, lines, pieces, level-ups (short),
+     * final level ordinal (byte) and flags (byte, bit 0 = game over).
+     */
+    static void encode(ByteBuffer buffer, int offset, GameResult result) {
+        buffer.putLong(offset, result.getSeed());
+        buffer.putLong(offset + 8, result.getDurationNanos());
+        buffer.putInt(offset + 16, result.getScore());
+        buffer.putInt(offset + 20, result.getLines());
+        buffer.putInt(offset + 24, result.getPieces());
+        buffer.putShort(offset + 28, (short) Math.min(result.getLevelUps(), Short.MAX_VALUE));
+        buffer.put(offset + 30, (byte) result.getFinalLevel().ordinal());
+        buffer.put(offset + 31, (byte) (result.isGameOver() ? 1 : 0));
+    }
+
+    /**
+     * Reads the result at a buffer offset.
+     */
+    static GameResult decode(ByteBuffer buffer, int offset) {
+        return new GameResult(
+                buffer.getLong(offset),
+                GameLevel.values()[buffer.get(offset + 30)],
+                buffer.getShort(offset + 28),
+                buffer.getInt(offset + 16),
+                buffer.getInt(offset + 20),
+                buffer.getInt(offset + 24),
+                (buffer.get(offset + 31) & 1) != 0,
+                buffer.getLong(offset + 8));
+    }
+
+    private long capacity() {
+        return buffer.getLong(CAPACITY_OFFSET);
+    }
+
+    private void openSegment() throws IOException {
+        Path path = directory.resolve(String.format("%s%05d%s", SEGMENT_PREFIX, segmentIndex, SEGMENT_SUFFIX));
+        boolean exists = Files.exists(path) && Files.size(path) >= HEADER_SIZE;
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        long capacity = segmentRecords;
+        long count = 0;
+        if (exists) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            channel.read(header, 0);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != FORMAT_VERSION) {
+                channel.close();
+                throw new IOException("Not a game result segment: " + path);
+            }
+            count = header.getLong(COUNT_OFFSET);
+            capacity = header.getLong(CAPACITY_OFFSET);
+        }
+
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + capacity * RECORD_SIZE);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, FORMAT_VERSION);
+        buffer.putLong(COUNT_OFFSET, count);
+        buffer.putLong(CAPACITY_OFFSET, capacity);
+        segmentCount = count;
+    }
+
+    private void closeSegment() throws IOException {
+        buffer.force();
+        buffer = null;
+        try {
+            channel.truncate(HEADER_SIZE + segmentCount * RECORD_SIZE);
+        } catch (IOException e) {
+            // Some platforms refuse to shrink a file that is still mapped; the header count still bounds the records
+        } finally {
+            channel.close();
+            channel = null;
+        }
+    }
+}
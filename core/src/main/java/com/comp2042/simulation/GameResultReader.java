@@ -0,0 +1,116 @@
+package com.comp2042.simulation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams the records of a {@link GameResultLog} in append order.
+ * Segments are mapped read-only one at a time and records are decoded as they
+ * are iterated, so a log of any size is scanned without loading it into memory.
+ * Only the records counted in each segment header are returned.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class GameResultReader implements Iterator<GameResult>, AutoCloseable {
+
+    private final List<Path> segments;
+    private int nextSegment;
+    private MappedByteBuffer buffer;
+    private long segmentCount;
+    private long position;
+
+    /**
+     * Opens a reader over all segments of a log.
+     *
+     * @param directory Log directory; a missing directory reads as an empty log
+     * @throws IOException if the directory cannot be listed
+     */
+    public GameResultReader(Path directory) throws IOException {
+        this.segments = GameResultLog.segments(directory);
+    }
+
+    /**
+     * Counts the records of a log from the segment headers alone.
+     *
+     * @param directory Log directory
+     * @return Total number of records
+     * @throws IOException if a segment cannot be read
+     */
+    public static long count(Path directory) throws IOException {
+        long total = 0;
+        for (Path segment : GameResultLog.segments(directory)) {
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                total += readCount(channel, segment);
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (position == segmentCount) {
+            if (nextSegment == segments.size()) {
+                buffer = null;
+                return false;
+            }
+            try {
+                mapSegment(segments.get(nextSegment++));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public GameResult next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int offset = GameResultLog.HEADER_SIZE + (int) position * GameResultLog.RECORD_SIZE;
+        position++;
+        return GameResultLog.decode(buffer, offset);
+    }
+
+    /**
+     * Releases the current segment mapping.
+     */
+    @Override
+    public void close() {
+        buffer = null;
+        position = segmentCount = 0;
+        nextSegment = segments.size();
+    }
+
+    private void mapSegment(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            segmentCount = readCount(channel, segment);
+            position = 0;
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    GameResultLog.HEADER_SIZE + segmentCount * GameResultLog.RECORD_SIZE);
+        }
+    }
+
+    /**
+     * Reads a segment's record count, bounded by the records the file actually holds.
+     */
+    private static long readCount(FileChannel channel, Path segment) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(GameResultLog.HEADER_SIZE);
+        channel.read(header, 0);
+        if (header.getInt(0) != GameResultLog.MAGIC || header.getInt(4) != GameResultLog.FORMAT_VERSION) {
+            throw new IOException("Not a game result segment: " + segment);
+        }
+        long stored = (channel.size() - GameResultLog.HEADER_SIZE) / GameResultLog.RECORD_SIZE;
+        return Math.max(0, Math.min(header.getLong(GameResultLog.COUNT_OFFSET), stored));
+    }
+}
@@ -0,0 +1,104 @@
+package com.comp2042.simulation;
+
+import com.comp2042.logic.bricks.BrickFactory;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.model.game.SimpleBoard;
+import com.comp2042.utils.MatrixOperations;
+
+import java.util.List;
+
+/**
+ * One-ply greedy policy. Tries every rotation and column of the falling brick
+ * and keeps the placement with the best weighted sum of aggregate height,
+ * completed lines, new holes and bumpiness. Landing rows come from the board's
+ * column heights and completed lines from its row fill counts, so no board
+ * copy is made per candidate.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class GreedyPolicy implements MovePolicy {
+
+    private static final double HEIGHT_WEIGHT = -0.510066;
+    private static final double LINES_WEIGHT = 0.760666;
+    private static final double HOLES_WEIGHT = -0.35663;
+    private static final double BUMPINESS_WEIGHT = -0.184483;
+
+    @Override
+    public Placement choose(SimpleBoard board) {
+        int[][] matrix = board.getBoardMatrix();
+        int columns = matrix[0].length;
+        int y = board.getCurrentY();
+        BrickShape current = board.getCurrentBrickShape();
+        List<BrickShape> rotations = BrickFactory.getRotations(current.getType());
+        int[] heights = new int[columns];
+
+        int bestTurns = 0;
+        int bestX = board.getCurrentX();
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int turns = 0; turns < rotations.size(); turns++) {
+            BrickShape shape = rotations.get((current.getRotation() + turns) % rotations.size());
+            for (int x = -shape.getMinX(); x + shape.getMaxX() < columns; x++) {
+                if (MatrixOperations.intersect(matrix, shape, x, y)) {
+                    continue;
+                }
+                int landingY = board.getLandingY(shape, x, y);
+                double value = evaluate(board, shape, x, landingY, heights);
+                if (value > bestValue) {
+                    bestValue = value;
+                    bestTurns = turns;
+                    bestX = x;
+                }
+            }
+        }
+        return new Placement(bestTurns, bestX);
+    }
+
+    /**
+     * Scores the board that would result from dropping the shape at (x, landingY).
+     *
+     * @param heights Scratch array, one entry per column
+     */
+    private static double evaluate(SimpleBoard board, BrickShape shape, int x, int landingY, int[] heights) {
+        int rows = board.getBoardMatrix().length;
+        int columns = heights.length;
+
+        int lines = 0;
+        for (int r = shape.getMinY(); r <= shape.getMaxY(); r++) {
+            int cells = Integer.bitCount(shape.getRowMask(r));
+            if (cells > 0 && board.getRowFillCount(landingY + r) + cells == columns) {
+                lines++;
+            }
+        }
+
+        int holes = 0;
+        for (int c = 0; c < columns; c++) {
+            heights[c] = board.getColumnHeight(c);
+        }
+        for (int c = shape.getMinX(); c <= shape.getMaxX(); c++) {
+            int bottom = shape.getColumnBottom(c);
+            if (bottom < 0) {
+                continue;
+            }
+            int column = x + c;
+            int surface = rows - heights[column];
+            holes += Math.max(0, surface - (landingY + bottom) - 1);
+        }
+        for (int k = 0; k < shape.getCellCount(); k++) {
+            int column = x + shape.getCellX(k);
+            heights[column] = Math.max(heights[column], rows - (landingY + shape.getCellY(k)));
+        }
+
+        int aggregateHeight = -lines * columns;
+        int bumpiness = 0;
+        for (int c = 0; c < columns; c++) {
+            aggregateHeight += heights[c];
+            if (c > 0) {
+                bumpiness += Math.abs(heights[c] - heights[c - 1]);
+            }
+        }
+        return HEIGHT_WEIGHT * aggregateHeight + LINES_WEIGHT * lines
+                + HOLES_WEIGHT * holes + BUMPINESS_WEIGHT * bumpiness;
+    }
+}
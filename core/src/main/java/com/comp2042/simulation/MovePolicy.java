@@ -0,0 +1,24 @@
+package com.comp2042.simulation;
+
+import com.comp2042.model.game.SimpleBoard;
+
+/**
+ * Decides where the falling brick of a simulated game should go.
+ * One policy instance is shared by every game of a run, so implementations
+ * must be stateless or thread-safe.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+@FunctionalInterface
+public interface MovePolicy {
+
+    /**
+     * Chooses a placement for the board's falling brick.
+     *
+     * @param board Board with a freshly spawned brick
+     * @return Rotations and column to move to before the brick is dropped
+     */
+    Placement choose(SimpleBoard board);
+}
@@ -0,0 +1,31 @@
+package com.comp2042.simulation;
+
+/**
+ * Target of a move policy: how often to rotate the brick and which column to move it to.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public final class Placement {
+
+    private final int rotations;
+    private final int x;
+
+    /**
+     * @param rotations Number of rotate calls to apply
+     * @param x Target column of the brick's left edge
+     */
+    public Placement(int rotations, int x) {
+        this.rotations = rotations;
+        this.x = x;
+    }
+
+    public int getRotations() {
+        return rotations;
+    }
+
+    public int getX() {
+        return x;
+    }
+}
@@ -0,0 +1,109 @@
+package com.comp2042.simulation;
+
+import com.comp2042.model.game.GameLevel;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregated statistics of a simulation run.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public final class SimulationReport {
+
+    private final List<GameResult> results;
+    private final long elapsedNanos;
+    private final long totalScore;
+    private final long totalLines;
+    private final long totalPieces;
+    private final int cappedGames;
+    private final Map<GameLevel, Integer> levelHistogram = new EnumMap<>(GameLevel.class);
+
+    /**
+     * Aggregates the results of a run.
+     *
+     * @param results Per-game results, in game index order
+     * @param elapsedNanos Wall time of the whole run
+     */
+    public SimulationReport(GameResult[] results, long elapsedNanos) {
+        this.results = Collections.unmodifiableList(Arrays.asList(results.clone()));
+        this.elapsedNanos = elapsedNanos;
+        for (GameLevel level : GameLevel.values()) {
+            levelHistogram.put(level, 0);
+        }
+        long score = 0;
+        long lines = 0;
+        long pieces = 0;
+        int capped = 0;
+        for (GameResult result : results) {
+            score += result.getScore();
+            lines += result.getLines();
+            pieces += result.getPieces();
+            if (!result.isGameOver()) {
+                capped++;
+            }
+            levelHistogram.merge(result.getFinalLevel(), 1, Integer::sum);
+        }
+        this.totalScore = score;
+        this.totalLines = lines;
+        this.totalPieces = pieces;
+        this.cappedGames = capped;
+    }
+
+    public List<GameResult> getResults() {
+        return results;
+    }
+
+    public int getGames() {
+        return results.size();
+    }
+
+    public double getMeanScore() {
+        return results.isEmpty() ? 0 : (double) totalScore / results.size();
+    }
+
+    public double getMeanLines() {
+        return results.isEmpty() ? 0 : (double) totalLines / results.size();
+    }
+
+    public double getMeanPieces() {
+        return results.isEmpty() ? 0 : (double) totalPieces / results.size();
+    }
+
+    /**
+     * Gets the number of games that hit the piece cap instead of ending.
+     */
+    public int getCappedGames() {
+        return cappedGames;
+    }
+
+    /**
+     * Gets how many games finished on each level.
+     *
+     * @return Read-only map with an entry for every level
+     */
+    public Map<GameLevel, Integer> getLevelHistogram() {
+        return Collections.unmodifiableMap(levelHistogram);
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : results.size() * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("games=%d capped=%d meanScore=%.1f meanLines=%.2f meanPieces=%.1f levels=%s games/s=%.1f",
+                getGames(), cappedGames, getMeanScore(), getMeanLines(), getMeanPieces(),
+                levelHistogram, getGamesPerSecond());
+    }
+}
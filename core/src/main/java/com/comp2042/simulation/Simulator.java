@@ -0,0 +1,303 @@
+package com.comp2042.simulation;
+
+import com.comp2042.ClearRow;
+import com.comp2042.constants.GameConstants;
+import com.comp2042.logic.bricks.BrickRandomizer;
+import com.comp2042.model.game.FixedTimestepLoop;
+import com.comp2042.model.game.GameEngine;
+import com.comp2042.model.game.GameLevel;
+import com.comp2042.model.game.GameListener;
+import com.comp2042.model.game.SimpleBoard;
+import com.comp2042.model.scoring.Leaderboard;
+import com.comp2042.model.scoring.LeaderboardManager;
+import com.comp2042.model.scoring.ScoreRecord;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Plays many headless games in parallel and aggregates their statistics.
+ * Every game runs on its own SimpleBoard with its own seeded generator,
+ * so games share no mutable state and each one can be replayed from the
+ * seed in its {@link GameResult}. Game seeds depend only on the base seed
+ * and the game index, never on scheduling. Each game has its own virtual
+ * clock, so lava and the challenge timer advance with the moves played
+ * rather than with wall time.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class Simulator {
+
+    /**
+     * How games are scheduled onto threads.
+     */
+    public enum ExecutorKind {
+        /** Work-stealing ForkJoinPool splitting the game range recursively. */
+        FORK_JOIN,
+        /** One virtual thread per game. */
+        VIRTUAL_THREADS
+    }
+
+    public static final int DEFAULT_MAX_PIECES = 10_000;
+
+    private static final long SEED_STEP = 0x9E3779B97F4A7C15L;
+    private static final int GAMES_PER_TASK = 4;
+
+    private final MovePolicy policy;
+    private final BrickRandomizer randomizer;
+    private final int maxPieces;
+    private final ExecutorKind executorKind;
+    private final int parallelism;
+
+    /**
+     * Creates a simulator using the uniform randomizer, the default piece cap
+     * and a ForkJoinPool with one worker per core.
+     *
+     * @param policy Policy shared by all games
+     */
+    public Simulator(MovePolicy policy) {
+        this(policy, BrickRandomizer.UNIFORM, DEFAULT_MAX_PIECES, ExecutorKind.FORK_JOIN,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a fully configured simulator.
+     *
+     * @param policy Policy shared by all games; must be thread-safe
+     * @param randomizer Brick randomizer for every game
+     * @param maxPieces Bricks after which a game is stopped even if it has not ended
+     * @param executorKind How games are scheduled
+     * @param parallelism Worker count for FORK_JOIN; ignored for virtual threads
+     * @throws IllegalArgumentException if maxPieces or parallelism is not positive
+     */
+    public Simulator(MovePolicy policy, BrickRandomizer randomizer, int maxPieces,
+                     ExecutorKind executorKind, int parallelism) {
+        if (maxPieces < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("maxPieces and parallelism must be positive");
+        }
+        this.policy = policy;
+        this.randomizer = randomizer;
+        this.maxPieces = maxPieces;
+        this.executorKind = executorKind;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Gets the seed of one game of a run.
+     *
+     * @param baseSeed Seed of the run
+     * @param index Game index within the run
+     * @return Seed passed to the game's board
+     */
+    public static long gameSeed(long baseSeed, int index) {
+        return baseSeed + index * SEED_STEP;
+    }
+
+    /**
+     * Plays a batch of games and aggregates their results.
+     *
+     * @param games Number of games
+     * @param baseSeed Seed of the run
+     * @return Report with per-game results in index order
+     * @throws IllegalArgumentException if games is negative
+     */
+    public SimulationReport run(int games, long baseSeed) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Number of games must not be negative: " + games);
+        }
+        GameResult[] results = new GameResult[games];
+        long start = System.nanoTime();
+        if (executorKind == ExecutorKind.FORK_JOIN) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                pool.invoke(new GameRangeTask(results, baseSeed, 0, games));
+            } finally {
+                pool.shutdown();
+            }
+        } else {
+            runOnVirtualThreads(results, baseSeed);
+        }
+        return new SimulationReport(results, System.nanoTime() - start);
+    }
+
+    private void runOnVirtualThreads(GameResult[] results, long baseSeed) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(results.length);
+            for (int i = 0; i < results.length; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    results[index] = playGame(gameSeed(baseSeed, index));
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulated game failed", e.getCause());
+        }
+    }
+
+    /**
+     * Plays one game to the end or to the piece cap.
+     *
+     * @param seed Seed for the board's brick generator and level randomness
+     * @return Result of the game
+     */
+    public GameResult playGame(long seed) {
+        long start = System.nanoTime();
+        FixedTimestepLoop clock = new FixedTimestepLoop(GameConstants.GAME_TICK_NANOS);
+        SimpleBoard board = new SimpleBoard(GameConstants.BOARD_HEIGHT, GameConstants.BOARD_WIDTH,
+                randomizer.create(seed), seed, clock);
+        GameEngine engine = new GameEngine(board);
+        GameCounter counter = new GameCounter();
+        engine.setListener(counter);
+        engine.newGame();
+
+        int pieces = 0;
+        while (!engine.isGameOver() && pieces < maxPieces) {
+            apply(board, policy.choose(board));
+            do {
+                // every row costs one gravity period of game time, as if the brick were left to fall
+                clock.step(GameConstants.GRAVITY_TICKS);
+            } while (engine.moveDown() == null && !engine.isGameOver());
+            pieces++;
+        }
+        return new GameResult(seed, board.getCurrentLevel(), counter.levelUps, board.getScore().getScore(),
+                counter.lines, pieces, engine.isGameOver(), System.nanoTime() - start);
+    }
+
+    /**
+     * Rotates and shifts the falling brick towards a placement, stopping at the first blocked move.
+     */
+    private static void apply(SimpleBoard board, Placement placement) {
+        for (int i = 0; i < placement.getRotations(); i++) {
+            if (!board.rotateLeftBrick()) {
+                break;
+            }
+        }
+        while (board.getCurrentX() > placement.getX() && board.moveBrickLeft()) {
+            // shift left
+        }
+        while (board.getCurrentX() < placement.getX() && board.moveBrickRight()) {
+            // shift right
+        }
+    }
+
+    /**
+     * Counts lines and level-ups of one game.
+     */
+    private static final class GameCounter implements GameListener {
+        private int lines;
+        private int levelUps;
+
+        @Override
+        public void onBrickLocked(ClearRow clearRow) {
+            lines += clearRow.getLinesRemoved();
+        }
+
+        @Override
+        public void onLevelUp(GameLevel nextLevel) {
+            levelUps++;
+        }
+    }
+
+    /**
+     * Plays a range of game indices, splitting it until it is small enough.
+     */
+    private final class GameRangeTask extends RecursiveAction {
+        private final GameResult[] results;
+        private final long baseSeed;
+        private final int from;
+        private final int to;
+
+        GameRangeTask(GameResult[] results, long baseSeed, int from, int to) {
+            this.results = results;
+            this.baseSeed = baseSeed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    results[i] = playGame(gameSeed(baseSeed, i));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new GameRangeTask(results, baseSeed, from, middle),
+                    new GameRangeTask(results, baseSeed, middle, to));
+        }
+    }
+
+    /**
+     * Command line entry point.
+     * Arguments: games [seed] [FORK_JOIN|VIRTUAL_THREADS] [UNIFORM|SEVEN_BAG|HISTORY] [maxPieces]
+     * [leaderboardFile] [resultLogDirectory]
+     * When a leaderboard file is given, every result is appended to it as a {@link ScoreRecord}
+     * and the per-mode leaderboards over all stored results are printed. When a result log
+     * directory is given, every result is appended to a {@link GameResultLog} there.
+     * Pass {@code -} to skip the leaderboard file.
+     *
+     * @param args Command line arguments
+     * @throws IOException if the result log cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 0L;
+        ExecutorKind kind = args.length > 2 ? ExecutorKind.valueOf(args[2]) : ExecutorKind.FORK_JOIN;
+        BrickRandomizer randomizer = args.length > 3 ? BrickRandomizer.valueOf(args[3]) : BrickRandomizer.UNIFORM;
+        int maxPieces = args.length > 4 ? Integer.parseInt(args[4]) : DEFAULT_MAX_PIECES;
+
+        Simulator simulator = new Simulator(new GreedyPolicy(), randomizer, maxPieces, kind,
+                Runtime.getRuntime().availableProcessors());
+        SimulationReport report = simulator.run(games, seed);
+        System.out.println(report);
+
+        if (args.length > 5 && !args[5].equals("-")) {
+            try (LeaderboardManager leaderboards = new LeaderboardManager(Paths.get(args[5]),
+                    LeaderboardManager.DEFAULT_CAPACITY)) {
+                long now = System.currentTimeMillis();
+                List<ScoreRecord> records = new ArrayList<>(report.getGames());
+                for (GameResult result : report.getResults()) {
+                    records.add(new ScoreRecord("sim-" + Long.toHexString(result.getSeed()), result.getFinalLevel(),
+                            result.getScore(), result.getLines(), result.getDurationNanos() / 1_000_000, now,
+                            result.getSeed()));
+                }
+                leaderboards.recordAll(records);
+                for (GameLevel level : GameLevel.values()) {
+                    Leaderboard board = leaderboards.getLeaderboard(level);
+                    if (board.size() > 0) {
+                        System.out.printf("%s: %d results, best %d, median %d%n", level, board.size(),
+                                board.getScoreAtRank(1), board.getScoreAtRank((board.size() + 1) / 2));
+                    }
+                }
+            }
+        }
+
+        if (args.length > 6) {
+            Path directory = Paths.get(args[6]);
+            long start = System.nanoTime();
+            try (GameResultLog log = new GameResultLog(directory)) {
+                log.appendAll(report.getResults());
+            }
+            System.out.printf("Appended %d results to %s in %.1f ms (%d stored)%n", report.getGames(), directory,
+                    (System.nanoTime() - start) / 1e6, GameResultReader.count(directory));
+        }
+    }
+}
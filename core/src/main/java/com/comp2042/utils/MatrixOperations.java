@@ -1,6 +1,7 @@
 package com.comp2042.utils;
 
 import com.comp2042.ClearRow;
+import com.comp2042.logic.bricks.BrickShape;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -47,6 +48,27 @@ public class MatrixOperations {
         return false;
     }
 
+    /**
+     * Checks if a shared brick shape intersects with board boundaries or existing blocks.
+     * Walks only the precomputed filled cells, so nothing is copied or allocated.
+     *
+     * @param matrix Game board matrix
+     * @param shape Brick rotation state
+     * @param x X-coordinate to check
+     * @param y Y-coordinate to check
+     * @return true if collision detected, false otherwise
+     */
+    public static boolean intersect(final int[][] matrix, final BrickShape shape, int x, int y) {
+        for (int k = 0; k < shape.getCellCount(); k++) {
+            int targetX = x + shape.getCellX(k);
+            int targetY = y + shape.getCellY(k);
+            if (targetY < 0 || checkOutOfBound(matrix, targetX, targetY) || matrix[targetY][targetX] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static boolean checkOutOfBound(int[][] matrix, int targetX, int targetY) {
         boolean returnValue = true;
         if (targetX >= 0 && targetY < matrix.length && targetX < matrix[targetY].length) {
@@ -95,6 +117,25 @@ public class MatrixOperations {
         return copy;
     }
 
+    /**
+     * Merges a shared brick shape into the game board at specified position.
+     *
+     * @param filledFields Current board state
+     * @param shape Brick rotation state to merge
+     * @param x X-coordinate for merge
+     * @param y Y-coordinate for merge
+     * @return New matrix with brick merged
+     */
+    public static int[][] merge(int[][] filledFields, BrickShape shape, int x, int y) {
+        int[][] copy = copy(filledFields);
+        for (int k = 0; k < shape.getCellCount(); k++) {
+            int column = shape.getCellX(k);
+            int row = shape.getCellY(k);
+            copy[y + row][x + column] = shape.getValue(row, column);
+        }
+        return copy;
+    }
+
     /**
      * Identifies and removes complete rows, returning updated matrix and score bonus.
      * Applies quadratic scoring: bonus = 50 × (lines cleared)²
@@ -131,7 +172,8 @@ public class MatrixOperations {
             }
         }
         int scoreBonus = 50 * clearedRows.size() * clearedRows.size();
-        return new ClearRow(clearedRows.size(), tmp, scoreBonus);
+        int[] clearedIndices = clearedRows.stream().mapToInt(Integer::intValue).toArray();
+        return new ClearRow(clearedRows.size(), tmp, scoreBonus, clearedIndices);
     }
 
     /**
@@ -2,6 +2,9 @@ package com.comp2042.logic.bricks;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class BrickFactoryTest {
@@ -66,4 +69,51 @@ class BrickFactoryTest {
             assertFalse(brick.getShapeMatrix().isEmpty());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Shape table is interned and read-only")
+    void testShapeTableInterned() {
+        for (BrickFactory.BrickType type : BrickFactory.BrickType.values()) {
+            assertSame(BrickFactory.getRotations(type), BrickFactory.getRotations(type));
+            assertSame(BrickFactory.getRotations(type), BrickFactory.createBrick(type).getRotations());
+            assertThrows(UnsupportedOperationException.class,
+                    () -> BrickFactory.getRotations(type).clear());
+        }
+    }
+
+    @Test
+    @DisplayName("Rotation states match the brick matrices")
+    void testRotationStatesMatchMatrices() {
+        for (BrickFactory.BrickType type : BrickFactory.BrickType.values()) {
+            List<int[][]> matrices = BrickFactory.createBrick(type).getShapeMatrix();
+            assertEquals(matrices.size(), BrickFactory.getRotations(type).size());
+
+            for (int i = 0; i < matrices.size(); i++) {
+                int[][] matrix = matrices.get(i);
+                BrickShape shape = BrickFactory.getShape(type, i);
+                assertEquals(4, shape.getCellCount());
+                for (int r = 0; r < matrix.length; r++) {
+                    int mask = 0;
+                    for (int c = 0; c < matrix[r].length; c++) {
+                        assertEquals(matrix[r][c], shape.getValue(r, c));
+                        if (matrix[r][c] != 0) {
+                            mask |= 1 << c;
+                            assertTrue(c >= shape.getMinX() && c <= shape.getMaxX());
+                            assertTrue(r >= shape.getMinY() && r <= shape.getMaxY());
+                        }
+                    }
+                    assertEquals(mask, shape.getRowMask(r));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Matrix copies do not leak into the shape table")
+    void testToMatrixIsCopy() {
+        BrickShape shape = BrickFactory.getShape(BrickFactory.BrickType.T_BRICK, 0);
+        int[][] copy = shape.toMatrix();
+        copy[1][0] = 99;
+        assertEquals(6, shape.getValue(1, 0));
+    }
+}
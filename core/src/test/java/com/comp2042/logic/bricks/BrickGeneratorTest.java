@@ -0,0 +1,88 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the seeded brick generators.
+ */
+class BrickGeneratorTest {
+
+    private static final int DRAWS = 700;
+
+    @Test
+    @DisplayName("Same seed replays the same sequence for every randomizer")
+    void testSameSeedSameSequence() {
+        for (BrickRandomizer randomizer : BrickRandomizer.values()) {
+            BrickGenerator first = randomizer.create(1234L);
+            BrickGenerator second = randomizer.create(1234L);
+            for (int i = 0; i < DRAWS; i++) {
+                assertEquals(first.getBrick().getType(), second.getBrick().getType(),
+                        randomizer + " diverged at brick " + i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Different seeds give different sequences")
+    void testDifferentSeeds() {
+        BrickGenerator first = new RandomBrickGenerator(1L);
+        BrickGenerator second = new RandomBrickGenerator(2L);
+        boolean differs = false;
+        for (int i = 0; i < DRAWS; i++) {
+            differs |= first.getBrick().getType() != second.getBrick().getType();
+        }
+        assertTrue(differs);
+    }
+
+    @Test
+    @DisplayName("Preview brick is the next brick dealt")
+    void testPreviewMatchesNextBrick() {
+        for (BrickRandomizer randomizer : BrickRandomizer.values()) {
+            BrickGenerator generator = randomizer.create(99L);
+            for (int i = 0; i < DRAWS; i++) {
+                Brick preview = generator.getNextBrick();
+                assertSame(preview, generator.getBrick());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("7-bag deals every type once per bag")
+    void testSevenBagDealsEveryType() {
+        BrickGenerator generator = new SevenBagBrickGenerator(7L);
+        for (int bag = 0; bag < DRAWS / 7; bag++) {
+            Set<BrickFactory.BrickType> seen = EnumSet.noneOf(BrickFactory.BrickType.class);
+            for (int i = 0; i < 7; i++) {
+                seen.add(generator.getBrick().getType());
+            }
+            assertEquals(7, seen.size(), "Bag " + bag + " should contain all seven types");
+        }
+    }
+
+    @Test
+    @DisplayName("History randomizer avoids recent types")
+    void testHistoryAvoidsRepeats() {
+        BrickGenerator generator = new HistoryBrickGenerator(5L, 4, 100);
+        BrickFactory.BrickType[] recent = new BrickFactory.BrickType[4];
+        for (int i = 0; i < DRAWS; i++) {
+            BrickFactory.BrickType type = generator.getBrick().getType();
+            for (BrickFactory.BrickType previous : recent) {
+                assertNotEquals(previous, type, "Brick " + i + " repeats a recent type");
+            }
+            recent[i % recent.length] = type;
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid history settings are rejected")
+    void testInvalidHistorySettings() {
+        assertThrows(IllegalArgumentException.class, () -> new HistoryBrickGenerator(0L, 7, 4));
+        assertThrows(IllegalArgumentException.class, () -> new HistoryBrickGenerator(0L, 4, 0));
+    }
+}
@@ -0,0 +1,134 @@
+package com.comp2042.model.game;
+
+import com.comp2042.ClearRow;
+import com.comp2042.Data.ViewData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the bitmask based BitBoard engine.
+ */
+class BitBoardTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    private BitBoard board;
+
+    @BeforeEach
+    void setUp() {
+        board = new BitBoard(ROWS, COLUMNS);
+    }
+
+    @Test
+    @DisplayName("New brick spawns on an empty board")
+    void testSpawnOnEmptyBoard() {
+        assertFalse(board.createNewBrick());
+    }
+
+    @Test
+    @DisplayName("Brick stops at the left and right walls")
+    void testWallsStopBrick() {
+        board.createNewBrick();
+
+        int moves = 0;
+        while (board.moveBrickLeft()) {
+            moves++;
+            assertTrue(moves <= COLUMNS, "Brick should stop at the left wall");
+        }
+
+        moves = 0;
+        while (board.moveBrickRight()) {
+            moves++;
+            assertTrue(moves <= COLUMNS, "Brick should stop at the right wall");
+        }
+    }
+
+    @Test
+    @DisplayName("Dropped brick is merged into the bottom rows")
+    void testDropAndMerge() {
+        board.createNewBrick();
+        ViewData before = board.getViewData();
+        while (board.moveBrickDown()) {
+            // fall to the floor
+        }
+        assertEquals(before.getGhostYPosition(), board.getViewData().getyPosition(),
+                "Brick should land where the ghost predicted");
+
+        board.mergeBrickToBackground();
+
+        int filled = 0;
+        for (int[] row : board.getBoardMatrix()) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    filled++;
+                }
+            }
+        }
+        assertEquals(4, filled, "Every brick has exactly four cells");
+        boolean bottomUsed = false;
+        for (int cell : board.getBoardMatrix()[ROWS - 1]) {
+            bottomUsed |= cell != 0;
+        }
+        assertTrue(bottomUsed, "Brick should rest on the floor");
+    }
+
+    @Test
+    @DisplayName("Full rows are cleared and rows above shift down")
+    void testClearRows() {
+        int[][] matrix = board.getBoardMatrix();
+        for (int c = 0; c < COLUMNS; c++) {
+            matrix[ROWS - 1][c] = 1;
+        }
+        matrix[ROWS - 2][3] = 5;
+        board.rebuildMasks();
+
+        ClearRow clearRow = board.clearRows();
+
+        assertEquals(1, clearRow.getLinesRemoved());
+        assertEquals(50, clearRow.getScoreBonus());
+        assertArrayEquals(new int[]{ROWS - 1}, clearRow.getClearedRows());
+        assertEquals(5, board.getBoardMatrix()[ROWS - 1][3]);
+        assertEquals(0, board.getBoardMatrix()[ROWS - 1][0]);
+        assertEquals(0, board.getBoardMatrix()[ROWS - 2][3]);
+    }
+
+    @Test
+    @DisplayName("Partial rows are not cleared")
+    void testPartialRowNotCleared() {
+        int[][] matrix = board.getBoardMatrix();
+        for (int c = 0; c < COLUMNS - 1; c++) {
+            matrix[ROWS - 1][c] = 1;
+        }
+        board.rebuildMasks();
+
+        ClearRow clearRow = board.clearRows();
+
+        assertEquals(0, clearRow.getLinesRemoved());
+        assertEquals(1, board.getBoardMatrix()[ROWS - 1][0]);
+    }
+
+    @Test
+    @DisplayName("Blocked spawn area reports game over")
+    void testBlockedSpawn() {
+        int[][] matrix = board.getBoardMatrix();
+        for (int r = 0; r < 4; r++) {
+            for (int c = 0; c < COLUMNS; c++) {
+                matrix[r][c] = 1;
+            }
+        }
+        board.rebuildMasks();
+
+        assertTrue(board.createNewBrick());
+    }
+
+    @Test
+    @DisplayName("Oversized boards are rejected")
+    void testInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new BitBoard(25, 40));
+        assertThrows(IllegalArgumentException.class, () -> new BitBoard(0, 10));
+    }
+}
@@ -0,0 +1,95 @@
+package com.comp2042.model.game;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the fixed-timestep game loop and its game clock.
+ */
+class FixedTimestepLoopTest {
+
+    private static final long TICK = 10;
+
+    private FixedTimestepLoop loop;
+    private int ticks;
+
+    @BeforeEach
+    void setUp() {
+        loop = new FixedTimestepLoop(TICK);
+        ticks = 0;
+        loop.setTickHandler(() -> ticks++);
+    }
+
+    @Test
+    @DisplayName("First frame only records the timestamp")
+    void testFirstFrame() {
+        assertEquals(0, loop.advance(1_000));
+        assertEquals(0, ticks);
+        assertEquals(0, loop.nanoTime());
+    }
+
+    @Test
+    @DisplayName("Leftover time carries over and sets alpha")
+    void testAccumulator() {
+        loop.advance(0);
+        assertEquals(2, loop.advance(25));
+        assertEquals(0.5, loop.getAlpha(), 1e-9);
+        assertEquals(1, loop.advance(30));
+        assertEquals(0.0, loop.getAlpha(), 1e-9);
+        assertEquals(3, ticks);
+        assertEquals(3 * TICK, loop.nanoTime());
+    }
+
+    @Test
+    @DisplayName("Long stalls are clamped")
+    void testStallIsClamped() {
+        loop.advance(0);
+        assertEquals(10, loop.advance(1_000_000));
+    }
+
+    @Test
+    @DisplayName("Reset frame time drops the paused gap")
+    void testResetFrameTime() {
+        loop.advance(0);
+        loop.advance(15);
+        loop.resetFrameTime();
+
+        assertEquals(0, loop.advance(500));
+        assertEquals(1, loop.advance(510));
+        assertEquals(2, ticks);
+    }
+
+    @Test
+    @DisplayName("Headless steps advance game time")
+    void testStep() {
+        loop.step(5);
+        assertEquals(5, ticks);
+        assertEquals(5 * TICK, loop.nanoTime());
+        assertEquals(5, loop.getTicks());
+    }
+
+    @Test
+    @DisplayName("Lava descends with game time, not wall time")
+    void testLavaFollowsGameClock() {
+        FixedTimestepLoop clock = new FixedTimestepLoop(1_000_000_000L);
+        LavaManager lava = new LavaManager(clock);
+        lava.activate();
+
+        clock.step(3);
+        lava.update();
+        assertEquals(0, lava.getLavaRow());
+
+        clock.step(1);
+        lava.update();
+        assertEquals(1, lava.getLavaRow());
+    }
+
+    @Test
+    @DisplayName("Invalid tick length is rejected")
+    void testInvalidTick() {
+        assertThrows(IllegalArgumentException.class, () -> new FixedTimestepLoop(0));
+    }
+}
@@ -0,0 +1,113 @@
+package com.comp2042.model.game;
+
+import com.comp2042.ClearRow;
+import com.comp2042.constants.GameConstants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the headless GameEngine lock pipeline.
+ */
+class GameEngineTest {
+
+    @Test
+    @DisplayName("Headless game runs until the stack reaches the top")
+    void testGameRunsToGameOver() {
+        SimpleBoard board = new SimpleBoard(25, 10);
+        GameEngine engine = new GameEngine(board);
+        int[] gameOvers = new int[1];
+        int[] locks = new int[1];
+        int[] bonus = new int[1];
+        engine.setListener(new GameListener() {
+            @Override
+            public void onBrickLocked(ClearRow clearRow) {
+                locks[0]++;
+                bonus[0] += clearRow.getScoreBonus();
+            }
+
+            @Override
+            public void onGameOver() {
+                gameOvers[0]++;
+            }
+        });
+        engine.newGame();
+
+        int steps = 0;
+        while (!engine.isGameOver()) {
+            engine.moveDown();
+            steps++;
+            assertTrue(steps < 10_000, "Dropping every brick in place should end the game");
+        }
+
+        assertEquals(1, gameOvers[0]);
+        assertTrue(locks[0] > 0);
+        assertEquals(bonus[0], board.getScore().getScore());
+    }
+
+    @Test
+    @DisplayName("Moving brick returns no clear result")
+    void testMoveDownWithoutLock() {
+        GameEngine engine = new GameEngine(new SimpleBoard(25, 10));
+        engine.newGame();
+
+        assertNull(engine.moveDown());
+        assertFalse(engine.isGameOver());
+    }
+
+    @Test
+    @DisplayName("New game clears the game over flag")
+    void testNewGameResetsGameOver() {
+        GameEngine engine = new GameEngine(new SimpleBoard(25, 10));
+        engine.newGame();
+        while (!engine.isGameOver()) {
+            engine.moveDown();
+        }
+
+        engine.newGame();
+
+        assertFalse(engine.isGameOver());
+        assertEquals(0, engine.getBoard().getScore().getScore());
+    }
+
+    @Test
+    @DisplayName("Hard drop lands, locks and scores in one step")
+    void testHardDrop() {
+        SimpleBoard board = new SimpleBoard(25, 10, 4L);
+        GameEngine engine = new GameEngine(board);
+        int[] locks = new int[1];
+        engine.setListener(new GameListener() {
+            @Override
+            public void onBrickLocked(ClearRow clearRow) {
+                locks[0]++;
+            }
+        });
+        engine.newGame();
+        int startY = board.getCurrentY();
+        int landingY = board.getViewData().getGhostYPosition();
+
+        ClearRow clearRow = engine.hardDrop();
+
+        assertNotNull(clearRow);
+        assertEquals(1, locks[0]);
+        assertEquals((landingY - startY) * GameConstants.SCORE_PER_HARD_DROP_ROW, board.getScore().getScore());
+        assertEquals(startY, board.getCurrentY(), "Next brick should spawn at the top");
+    }
+
+    @Test
+    @DisplayName("Board hard drop stops where the ghost predicts")
+    void testBoardHardDropMatchesGhost() {
+        for (Board board : new Board[] {new SimpleBoard(25, 10, 9L), new BitBoard(25, 10, 9L)}) {
+            board.newGame();
+            board.moveBrickLeft();
+            int ghostY = board.getViewData().getGhostYPosition();
+            int startY = board.getViewData().getyPosition();
+
+            assertEquals(ghostY - startY, board.hardDrop());
+            assertEquals(ghostY, board.getViewData().getyPosition());
+            assertFalse(board.moveBrickDown());
+            assertEquals(0, board.hardDrop());
+        }
+    }
+}
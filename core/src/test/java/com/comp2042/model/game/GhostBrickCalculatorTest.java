@@ -0,0 +1,171 @@
+package com.comp2042.model.game;
+
+import com.comp2042.logic.bricks.BrickFactory;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.utils.MatrixOperations;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for GhostBrickCalculator.
+ */
+class GhostBrickCalculatorTest {
+
+    @Test
+    @DisplayName("Ghost lands at bottom of empty board")
+    void testEmptyBoard() {
+        int[][] board = new int[10][5];
+        int[][] brick = {{1}};
+
+        int landingY = GhostBrickCalculator.calculateLandingY(board, brick, 2, 0);
+
+        assertEquals(9, landingY);
+    }
+
+    @Test
+    @DisplayName("Ghost stops above obstacle")
+    void testWithObstacle() {
+        int[][] board = new int[10][5];
+        board[8][2] = 1;
+
+        int[][] brick = {{1}};
+
+        int landingY = GhostBrickCalculator.calculateLandingY(board, brick, 2, 0);
+
+        assertEquals(7, landingY);
+    }
+
+    @Test
+    @DisplayName("Ghost handles null input safely")
+    void testNullInput() {
+        int result1 = GhostBrickCalculator.calculateLandingY(null, new int[][]{{1}}, 2, 2);
+        int result2 = GhostBrickCalculator.calculateLandingY(new int[10][5], (int[][]) null, 2, 2);
+        int result3 = GhostBrickCalculator.calculateLandingY(new int[10][5], (BrickShape) null, 2, 2);
+
+        assertEquals(2, result1);
+        assertEquals(2, result2);
+        assertEquals(2, result3);
+    }
+
+    @Test
+    @DisplayName("Ghost equals current position when already at bottom")
+    void testAlreadyAtBottom() {
+        int[][] board = new int[5][5];
+        int[][] brick = {{1}};
+
+        int landingY = GhostBrickCalculator.calculateLandingY(board, brick, 2, 4);
+
+        assertEquals(4, landingY);
+    }
+
+    @Test
+    @DisplayName("Ghost handles L-shaped brick")
+    void testLShapedBrick() {
+        int[][] board = new int[10][5];
+        int[][] brick = {
+                {1, 1},
+                {1, 0}
+        };
+
+        int landingY = GhostBrickCalculator.calculateLandingY(board, brick, 1, 0);
+
+        assertTrue(landingY >= 0);
+        assertTrue(landingY < board.length);
+    }
+
+    @Test
+    @DisplayName("Ghost stops on top of filled bottom row")
+    void testFilledBottom() {
+        int[][] board = new int[10][5];
+        for (int j = 0; j < 5; j++) {
+            board[9][j] = 1;
+        }
+
+        int[][] brick = {{1}};
+
+        int landingY = GhostBrickCalculator.calculateLandingY(board, brick, 2, 0);
+
+        assertEquals(8, landingY);
+    }
+
+    @Test
+    @DisplayName("Ghost Y is always greater or equal to current Y")
+    void testYAlwaysDownward() {
+        int[][] board = new int[10][5];
+        int[][] brick = {{1}};
+
+        for (int startY = 0; startY < 8; startY++) {
+            int landingY = GhostBrickCalculator.calculateLandingY(board, brick, 2, startY);
+
+            assertTrue(landingY >= startY,
+                    "Ghost Y should be >= current Y. Start: " + startY + ", Landing: " + landingY);
+        }
+    }
+
+    @Test
+    @DisplayName("Shape and matrix variants agree")
+    void testShapeMatchesMatrix() {
+        int[][] board = new int[25][10];
+        board[20][4] = 1;
+        board[18][6] = 1;
+
+        for (BrickFactory.BrickType type : BrickFactory.BrickType.values()) {
+            for (BrickShape shape : BrickFactory.getRotations(type)) {
+                int[][] matrix = shape.toMatrix();
+                for (int x = -1; x < 8; x++) {
+                    if (MatrixOperations.intersect(board, matrix, x, 1)) {
+                        continue;
+                    }
+                    assertEquals(
+                            GhostBrickCalculator.calculateLandingY(board, matrix, x, 1),
+                            GhostBrickCalculator.calculateLandingY(board, shape, x, 1),
+                            type + " rotation " + shape.getRotation() + " at x=" + x);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Column-height profile agrees with the row scan")
+    void testColumnHeightsMatchScan() {
+        Random random = new Random(42);
+        for (int trial = 0; trial < 50; trial++) {
+            int[][] board = new int[25][10];
+            for (int r = 10; r < 25; r++) {
+                for (int c = 0; c < 10; c++) {
+                    if (random.nextInt(3) == 0) {
+                        board[r][c] = 1;
+                    }
+                }
+            }
+            int[] heights = new int[10];
+            for (int c = 0; c < 10; c++) {
+                int r = 0;
+                while (r < 25 && board[r][c] == 0) {
+                    r++;
+                }
+                heights[c] = 25 - r;
+            }
+
+            for (BrickFactory.BrickType type : BrickFactory.BrickType.values()) {
+                for (BrickShape shape : BrickFactory.getRotations(type)) {
+                    for (int x = -1; x < 8; x++) {
+                        for (int y = 0; y < 22; y += 3) {
+                            if (MatrixOperations.intersect(board, shape, x, y)) {
+                                continue;
+                            }
+                            assertEquals(
+                                    GhostBrickCalculator.calculateLandingY(board, shape, x, y),
+                                    GhostBrickCalculator.calculateLandingY(board, heights, shape, x, y),
+                                    type + " rotation " + shape.getRotation() + " at " + x + "," + y);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -59,6 +59,18 @@ class LavaManagerTest {
         assertEquals(0, rows[0]); // Should start from row 0
     }
 
+    @Test
+    @DisplayName("Lava depth matches the rows covered by lava")
+    void testLavaDepthMatchesRows() {
+        assertEquals(0, lavaManager.getLavaDepth());
+
+        lavaManager.activate();
+        assertEquals(lavaManager.getLavaRows().length, lavaManager.getLavaDepth());
+
+        lavaManager.deactivate();
+        assertEquals(0, lavaManager.getLavaDepth());
+    }
+
     @Test
     @DisplayName("Record line clear increments counter")
     void testRecordLineClear() {
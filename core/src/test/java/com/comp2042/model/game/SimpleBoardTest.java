@@ -0,0 +1,183 @@
+package com.comp2042.model.game;
+
+import com.comp2042.ClearRow;
+import com.comp2042.Data.FrameSnapshot;
+import com.comp2042.Data.ViewData;
+import com.comp2042.utils.MatrixOperations;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for SimpleBoard line clearing against the reference MatrixOperations implementation.
+ */
+class SimpleBoardTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    @Test
+    @DisplayName("Incremental row clearing matches a full matrix scan")
+    void testClearRowsMatchesCheckRemoving() {
+        SimpleBoard board = new SimpleBoard(ROWS, COLUMNS);
+        board.newGame();
+        Random random = new Random(42);
+        int totalLines = 0;
+
+        for (int piece = 0; piece < 2000; piece++) {
+            int rotations = random.nextInt(4);
+            for (int r = 0; r < rotations; r++) {
+                board.rotateLeftBrick();
+            }
+            moveToLowestColumn(board);
+            while (board.moveBrickDown()) {
+                // fall to the floor
+            }
+
+            ViewData view = board.getViewData();
+            int[][] expected = MatrixOperations.merge(board.getBoardMatrix(),
+                    view.getBrickData(), view.getxPosition(), view.getyPosition());
+            ClearRow reference = MatrixOperations.checkRemoving(expected);
+
+            board.mergeBrickToBackground();
+            ClearRow clearRow = board.clearRows();
+
+            assertEquals(reference.getLinesRemoved(), clearRow.getLinesRemoved());
+            assertEquals(reference.getScoreBonus(), clearRow.getScoreBonus());
+            assertArrayEquals(reference.getClearedRows(), clearRow.getClearedRows());
+            assertArrayEquals(reference.getNewMatrix(), board.getBoardMatrix());
+            for (int c = 0; c < COLUMNS; c++) {
+                assertEquals(scanHeight(board.getBoardMatrix(), c), board.getColumnHeight(c),
+                        "Column height out of date at column " + c);
+            }
+            totalLines += clearRow.getLinesRemoved();
+
+            if (board.createNewBrick()) {
+                board.newGame();
+            }
+        }
+        assertTrue(totalLines > 0, "The test run should clear some rows");
+    }
+
+    @Test
+    @DisplayName("Rows are compacted in place and reported top to bottom")
+    void testClearRowsReusesRows() {
+        SimpleBoard board = new SimpleBoard(ROWS, COLUMNS);
+        board.newGame();
+        int[][] matrix = board.getBoardMatrix();
+        Set<int[]> rows = Collections.newSetFromMap(new IdentityHashMap<>());
+        Collections.addAll(rows, matrix);
+
+        // Three full rows around a row with one gap, written straight into the board
+        for (int row = ROWS - 5; row < ROWS; row++) {
+            Arrays.fill(matrix[row], 1);
+        }
+        int[] gapRow = matrix[ROWS - 2];
+        gapRow[3] = 0;
+        matrix[ROWS - 4][5] = 0;
+        int[] topRow = matrix[ROWS - 4];
+        board.rebuildCaches();
+
+        ClearRow clearRow = board.clearRows();
+
+        assertEquals(3, clearRow.getLinesRemoved());
+        assertArrayEquals(new int[]{ROWS - 5, ROWS - 3, ROWS - 1}, clearRow.getClearedRows(),
+                "Rows should be reported top to bottom");
+        assertSame(matrix, board.getBoardMatrix(), "Matrix should be compacted in place");
+        for (int[] row : board.getBoardMatrix()) {
+            assertTrue(rows.contains(row), "Cleared row arrays should be reused");
+        }
+        assertSame(gapRow, matrix[ROWS - 1]);
+        assertSame(topRow, matrix[ROWS - 2]);
+        for (int row = 0; row < ROWS - 2; row++) {
+            assertArrayEquals(new int[COLUMNS], matrix[row], "Row " + row + " should be empty");
+        }
+        for (int c = 0; c < COLUMNS; c++) {
+            assertEquals(scanHeight(matrix, c), board.getColumnHeight(c),
+                    "Column height out of date at column " + c);
+        }
+
+        int[][] afterClear = clearRow.getNewMatrix();
+        matrix[ROWS - 1][3] = 5;
+        assertArrayEquals(afterClear, clearRow.getNewMatrix(), "Later changes must not leak into the result");
+    }
+
+    @Test
+    @DisplayName("Frame snapshots match the view data and are double buffered")
+    void testFrameSnapshot() {
+        SimpleBoard board = new SimpleBoard(ROWS, COLUMNS, 4L);
+        board.newGame();
+        board.moveBrickRight();
+
+        FrameSnapshot first = board.getFrameSnapshot();
+        ViewData view = board.getViewData();
+        assertArrayEquals(view.getBrickData(), first.getShape().toMatrix());
+        assertArrayEquals(view.getNextBrickData(), first.getNextShape().toMatrix());
+        assertEquals(view.getxPosition(), first.getxPosition());
+        assertEquals(view.getyPosition(), first.getyPosition());
+        assertEquals(view.getGhostYPosition(), first.getGhostYPosition());
+
+        board.moveBrickDown();
+        FrameSnapshot second = board.getFrameSnapshot();
+        assertNotSame(first, second, "The previous frame should stay readable");
+        assertEquals(first.getyPosition() + 1, second.getyPosition());
+        assertEquals(first.getFrame() + 1, second.getFrame());
+
+        assertSame(first, board.getFrameSnapshot(), "Snapshots should be recycled");
+    }
+
+    @Test
+    @DisplayName("Boards with the same seed replay the same game")
+    void testSeededBoardsReplay() {
+        SimpleBoard first = new SimpleBoard(ROWS, COLUMNS, 7L);
+        SimpleBoard second = new SimpleBoard(ROWS, COLUMNS, 7L);
+        first.newGame();
+        second.newGame();
+
+        for (int piece = 0; piece < 200; piece++) {
+            moveToLowestColumn(first);
+            moveToLowestColumn(second);
+            while (first.moveBrickDown()) {
+                second.moveBrickDown();
+            }
+            first.mergeBrickToBackground();
+            second.mergeBrickToBackground();
+            assertEquals(first.clearRows().getLinesRemoved(), second.clearRows().getLinesRemoved());
+            assertArrayEquals(first.getBoardMatrix(), second.getBoardMatrix());
+            assertEquals(first.createNewBrick(), second.createNewBrick());
+        }
+    }
+
+    private static void moveToLowestColumn(SimpleBoard board) {
+        while (board.moveBrickLeft()) {
+            // slide to the left wall
+        }
+        int bestX = board.getViewData().getxPosition();
+        int bestLanding = board.getViewData().getGhostYPosition();
+        while (board.moveBrickRight()) {
+            ViewData view = board.getViewData();
+            if (view.getGhostYPosition() > bestLanding) {
+                bestLanding = view.getGhostYPosition();
+                bestX = view.getxPosition();
+            }
+        }
+        while (board.getViewData().getxPosition() > bestX) {
+            board.moveBrickLeft();
+        }
+    }
+
+    private static int scanHeight(int[][] matrix, int column) {
+        int row = 0;
+        while (row < matrix.length && matrix[row][column] == 0) {
+            row++;
+        }
+        return matrix.length - row;
+    }
+}
@@ -232,4 +232,33 @@ public class TargetChallengeManagerTest {
         }
         return false;
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test same seed selects the same missions")
+    void testSeededMissions() {
+        TargetChallengeManager first = new TargetChallengeManager(42L);
+        TargetChallengeManager second = new TargetChallengeManager(42L);
+        for (int i = 0; i < 20; i++) {
+            first.activate();
+            second.activate();
+            assertEquals(first.getCurrentMission(), second.getCurrentMission());
+            first.deactivate();
+            second.deactivate();
+        }
+    }
+
+    @Test
+    @DisplayName("Test countdown follows the game clock")
+    void testTimerUsesGameClock() {
+        FixedTimestepLoop clock = new FixedTimestepLoop(1_000_000_000L);
+        TargetChallengeManager timed = new TargetChallengeManager(1L, clock);
+        timed.activate();
+
+        clock.step(61);
+        assertFalse(timed.updateTimer());
+        assertEquals("01:59", timed.getFormattedTime());
+
+        clock.step(119);
+        assertTrue(timed.updateTimer(), "Timer should expire after 180 seconds of game time");
+    }
+}
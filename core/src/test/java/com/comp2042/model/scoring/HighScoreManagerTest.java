@@ -0,0 +1,92 @@
+package com.comp2042.model.scoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HighScoreManagerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Scores are kept sorted and capped at ten in memory")
+    void testSortedInMemory() {
+        try (HighScoreManager manager = new HighScoreManager(directory.resolve("scores.txt"))) {
+            for (int score = 10; score <= 120; score += 10) {
+                manager.addScore(score);
+            }
+            manager.addScore(5);
+
+            List<Integer> scores = manager.getHighScores();
+            assertEquals(10, scores.size());
+            assertEquals(120, scores.get(0));
+            assertEquals(30, scores.get(9));
+            assertEquals(120, manager.getTopScore());
+        }
+    }
+
+    @Test
+    @DisplayName("Closing flushes scores that a new manager loads back")
+    void testPersistAndReload() throws IOException {
+        Path file = directory.resolve("scores.txt");
+        try (HighScoreManager manager = new HighScoreManager(file)) {
+            manager.addScore(300);
+            manager.addScore(100);
+            manager.addScore(200);
+        }
+
+        assertEquals(List.of("300", "200", "100"), Files.readAllLines(file));
+        assertFalse(Files.exists(directory.resolve("scores.txt.tmp")));
+        try (HighScoreManager reloaded = new HighScoreManager(file)) {
+            assertEquals(List.of(300, 200, 100), reloaded.getHighScores());
+        }
+    }
+
+    @Test
+    @DisplayName("Background writer saves a burst of scores without an explicit flush")
+    void testBackgroundWrite() throws Exception {
+        Path file = directory.resolve("scores.txt");
+        HighScoreManager manager = new HighScoreManager(file);
+        for (int score = 1; score <= 50; score++) {
+            manager.addScore(score);
+        }
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!(Files.exists(file) && Files.readAllLines(file).size() == 10)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals("50", Files.readAllLines(file).get(0));
+        manager.close();
+    }
+
+    @Test
+    @DisplayName("Damaged lines are skipped on load")
+    void testDamagedLines() throws IOException {
+        Path file = directory.resolve("scores.txt");
+        Files.write(file, List.of("400", "garbage", "", "250"));
+
+        try (HighScoreManager manager = new HighScoreManager(file)) {
+            assertEquals(List.of(400, 250), manager.getHighScores());
+        }
+    }
+
+    @Test
+    @DisplayName("Missing file starts an empty table without writing")
+    void testMissingFile() {
+        Path file = directory.resolve("scores.txt");
+        try (HighScoreManager manager = new HighScoreManager(file)) {
+            assertEquals(0, manager.getTopScore());
+            assertTrue(manager.getHighScores().isEmpty());
+        }
+        assertFalse(Files.exists(file));
+    }
+}
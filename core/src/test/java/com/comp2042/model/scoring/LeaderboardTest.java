@@ -0,0 +1,134 @@
+package com.comp2042.model.scoring;
+
+import com.comp2042.model.game.GameLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardTest {
+
+    @TempDir
+    Path directory;
+
+    private static ScoreRecord record(GameLevel level, int score, long timestamp) {
+        return new ScoreRecord("tester", level, score, score / 100, 60_000, timestamp);
+    }
+
+    @Test
+    @DisplayName("Top records are kept best first and bounded by capacity")
+    void testTopK() {
+        Leaderboard board = new Leaderboard(3);
+        int[] scores = {500, 100, 900, 300, 700, 900};
+        for (int i = 0; i < scores.length; i++) {
+            board.add(record(GameLevel.CLASSIC, scores[i], i));
+        }
+
+        List<ScoreRecord> top = board.getTop();
+        assertEquals(3, top.size());
+        assertEquals(900, top.get(0).getScore());
+        assertEquals(2, top.get(0).getTimestamp(), "Earlier of two equal scores ranks first");
+        assertEquals(900, top.get(1).getScore());
+        assertEquals(700, top.get(2).getScore());
+        assertEquals(6, board.size());
+    }
+
+    @Test
+    @DisplayName("Rank, percentile and score at rank match a full sort")
+    void testIndexedQueries() {
+        Leaderboard board = new Leaderboard(10);
+        Random random = new Random(7);
+        int[] scores = new int[5000];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = random.nextInt(2000);
+            board.add(record(GameLevel.CLASSIC, scores[i], i));
+        }
+        int[] sorted = scores.clone();
+        Arrays.sort(sorted);
+
+        for (int probe : new int[] {-1, 0, 17, 999, 1500, 1999, 5000}) {
+            long above = Arrays.stream(scores).filter(s -> s > probe).count();
+            long below = Arrays.stream(scores).filter(s -> s < probe).count();
+            assertEquals(above + 1, board.getRank(probe));
+            assertEquals(100.0 * below / scores.length, board.getPercentile(probe), 1e-9);
+        }
+        for (int rank : new int[] {1, 2, 100, 2500, 5000}) {
+            assertEquals(sorted[sorted.length - rank], board.getScoreAtRank(rank));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> board.getScoreAtRank(5001));
+    }
+
+    @Test
+    @DisplayName("Records round trip through their line format")
+    void testRecordLine() {
+        ScoreRecord original = new ScoreRecord("Ada\tL", GameLevel.LAVA_SURVIVAL, 1234, 12, 95_000, 1_700_000_000_000L);
+        ScoreRecord parsed = ScoreRecord.parse(original.toLine());
+
+        assertEquals("Ada L", parsed.getPlayer());
+        assertEquals(GameLevel.LAVA_SURVIVAL, parsed.getLevel());
+        assertEquals(1234, parsed.getScore());
+        assertEquals(12, parsed.getLines());
+        assertEquals(95_000, parsed.getDurationMillis());
+        assertEquals(1_700_000_000_000L, parsed.getTimestamp());
+        assertTrue(parsed.getSeed().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> ScoreRecord.parse("CLASSIC\t12"));
+    }
+
+    @Test
+    @DisplayName("Seeds are stored and lines without one still parse")
+    void testRecordSeed() {
+        ScoreRecord seeded = new ScoreRecord("Ada", GameLevel.CLASSIC, 500, 5, 30_000, 1_700_000_000_000L, -42L);
+        assertEquals(-42L, ScoreRecord.parse(seeded.toLine()).getSeed().getAsLong());
+
+        ScoreRecord old = ScoreRecord.parse("CLASSIC\t500\t5\t30000\t1700000000000\tAda Lovelace");
+        assertEquals("Ada Lovelace", old.getPlayer());
+        assertEquals(500, old.getScore());
+        assertTrue(old.getSeed().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Records are kept per mode and reloaded from the file")
+    void testManagerPersistence() throws IOException {
+        Path file = directory.resolve("leaderboard.tsv");
+        try (LeaderboardManager manager = new LeaderboardManager(file, 5)) {
+            manager.record(record(GameLevel.CLASSIC, 400, 1));
+            manager.record(record(GameLevel.CLASSIC, 800, 2));
+            manager.record(record(GameLevel.LAVA_SURVIVAL, 600, 3));
+
+            assertEquals(2, manager.getLeaderboard(GameLevel.CLASSIC).size());
+            assertEquals(1, manager.getLeaderboard(GameLevel.LAVA_SURVIVAL).size());
+        }
+        assertEquals(3, Files.readAllLines(file).size());
+
+        try (LeaderboardManager reloaded = new LeaderboardManager(file, 5)) {
+            assertEquals(800, reloaded.getLeaderboard(GameLevel.CLASSIC).getTop().get(0).getScore());
+            assertEquals(2, reloaded.getLeaderboard(GameLevel.CLASSIC).getRank(500));
+            assertEquals(0, reloaded.getSkippedLines());
+        }
+    }
+
+    @Test
+    @DisplayName("A line cut short by a crash is skipped and later appends stay readable")
+    void testPartialLine() throws IOException {
+        Path file = directory.resolve("leaderboard.tsv");
+        Files.writeString(file, record(GameLevel.CLASSIC, 300, 1).toLine() + "\nCLASSIC\t9");
+
+        try (LeaderboardManager manager = new LeaderboardManager(file, 5)) {
+            assertEquals(1, manager.getSkippedLines());
+            manager.record(record(GameLevel.CLASSIC, 700, 2));
+        }
+
+        try (LeaderboardManager reloaded = new LeaderboardManager(file, 5)) {
+            assertEquals(2, reloaded.getLeaderboard(GameLevel.CLASSIC).size());
+            assertEquals(1, reloaded.getSkippedLines());
+        }
+    }
+}
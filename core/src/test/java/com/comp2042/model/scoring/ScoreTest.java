@@ -0,0 +1,71 @@
+package com.comp2042.model.scoring;
+
+import com.comp2042.model.scoring.Score;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreTest {
+
+    private Score score;
+
+    @BeforeEach
+    void setUp() {
+        score = new Score();
+    }
+
+    @Test
+    @DisplayName("Initial score is zero")
+    void testInitialScore() {
+        assertEquals(0, score.getScore());
+    }
+
+    @Test
+    @DisplayName("Adding score works correctly")
+    void testAddScore() {
+        score.add(10);
+        assertEquals(10, score.getScore());
+
+        score.add(25);
+        assertEquals(35, score.getScore());
+    }
+
+    @Test
+    @DisplayName("Reset clears score to zero")
+    void testReset() {
+        score.add(500);
+        score.reset();
+        assertEquals(0, score.getScore());
+    }
+
+    @Test
+    @DisplayName("Negative values work (penalties)")
+    void testNegativeScore() {
+        score.add(100);
+        score.add(-20);
+        assertEquals(80, score.getScore());
+    }
+
+    @Test
+    @DisplayName("Listeners receive old and new score")
+    void testListener() {
+        List<int[]> changes = new ArrayList<>();
+        ScoreListener listener = (oldScore, newScore) -> changes.add(new int[]{oldScore, newScore});
+        score.addListener(listener);
+
+        score.add(50);
+        score.add(0);
+        score.reset();
+        score.removeListener(listener);
+        score.add(10);
+
+        assertEquals(2, changes.size(), "Unchanged scores and removed listeners should not notify");
+        assertArrayEquals(new int[]{0, 50}, changes.get(0));
+        assertArrayEquals(new int[]{50, 0}, changes.get(1));
+    }
+}
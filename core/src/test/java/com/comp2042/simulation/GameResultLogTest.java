@@ -0,0 +1,131 @@
+package com.comp2042.simulation;
+
+import com.comp2042.logic.bricks.BrickRandomizer;
+import com.comp2042.model.game.GameLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the memory-mapped game result log.
+ */
+class GameResultLogTest {
+
+    @TempDir
+    Path directory;
+
+    private static GameResult result(int i) {
+        GameLevel level = GameLevel.values()[i % GameLevel.values().length];
+        return new GameResult(0x1234_5678_9ABCL * i, level, i % 3, i * 50, i % 40, 100 + i, i % 2 == 0, 1_000_000L + i);
+    }
+
+    private static List<GameResult> readAll(Path directory) throws IOException {
+        List<GameResult> results = new ArrayList<>();
+        try (GameResultReader reader = new GameResultReader(directory)) {
+            reader.forEachRemaining(results::add);
+        }
+        return results;
+    }
+
+    private static void assertSameResult(GameResult expected, GameResult actual) {
+        assertEquals(expected.getSeed(), actual.getSeed());
+        assertEquals(expected.getFinalLevel(), actual.getFinalLevel());
+        assertEquals(expected.getLevelUps(), actual.getLevelUps());
+        assertEquals(expected.getScore(), actual.getScore());
+        assertEquals(expected.getLines(), actual.getLines());
+        assertEquals(expected.getPieces(), actual.getPieces());
+        assertEquals(expected.isGameOver(), actual.isGameOver());
+        assertEquals(expected.getDurationNanos(), actual.getDurationNanos());
+    }
+
+    @Test
+    @DisplayName("Records round trip in order across segment rollover")
+    void testRoundTripWithRollover() throws IOException {
+        try (GameResultLog log = new GameResultLog(directory, 4)) {
+            for (int i = 0; i < 10; i++) {
+                log.append(result(i));
+            }
+            assertEquals(10, log.getAppended());
+        }
+
+        assertEquals(3, GameResultLog.segments(directory).size());
+        assertEquals(GameResultLog.HEADER_SIZE + 2 * GameResultLog.RECORD_SIZE,
+                Files.size(GameResultLog.segments(directory).get(2)), "Last segment trimmed on close");
+        List<GameResult> read = readAll(directory);
+        assertEquals(10, read.size());
+        for (int i = 0; i < 10; i++) {
+            assertSameResult(result(i), read.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Reopening continues in the last segment")
+    void testReopenAppends() throws IOException {
+        try (GameResultLog log = new GameResultLog(directory, 4)) {
+            log.append(result(0));
+            log.append(result(1));
+        }
+        try (GameResultLog log = new GameResultLog(directory, 4)) {
+            for (int i = 2; i < 7; i++) {
+                log.append(result(i));
+            }
+        }
+
+        assertEquals(2, GameResultLog.segments(directory).size());
+        assertEquals(7, GameResultReader.count(directory));
+        List<GameResult> read = readAll(directory);
+        for (int i = 0; i < 7; i++) {
+            assertSameResult(result(i), read.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Only records counted in the header are read")
+    void testHeaderCountBoundsRecords() throws IOException {
+        try (GameResultLog log = new GameResultLog(directory, 8)) {
+            log.append(result(1));
+            log.append(result(2));
+        }
+        Path segment = GameResultLog.segments(directory).get(0);
+        byte[] bytes = Files.readAllBytes(segment);
+        byte[] withGarbage = new byte[bytes.length + GameResultLog.RECORD_SIZE];
+        System.arraycopy(bytes, 0, withGarbage, 0, bytes.length);
+        withGarbage[bytes.length] = 42;
+        Files.write(segment, withGarbage);
+
+        assertEquals(2, readAll(directory).size());
+    }
+
+    @Test
+    @DisplayName("Simulated games are logged and read back")
+    void testSimulatorResults() throws IOException {
+        Simulator simulator = new Simulator(new GreedyPolicy(), BrickRandomizer.SEVEN_BAG,
+                100, Simulator.ExecutorKind.FORK_JOIN, 2);
+        SimulationReport report = simulator.run(6, 5L);
+        try (GameResultLog log = new GameResultLog(directory)) {
+            log.appendAll(report.getResults());
+        }
+
+        List<GameResult> read = readAll(directory);
+        assertEquals(6, read.size());
+        for (int i = 0; i < 6; i++) {
+            assertSameResult(report.getResults().get(i), read.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("A missing log reads as empty")
+    void testMissingLog() throws IOException {
+        Path missing = directory.resolve("none");
+        assertTrue(readAll(missing).isEmpty());
+        assertEquals(0, GameResultReader.count(missing));
+    }
+}
@@ -0,0 +1,80 @@
+package com.comp2042.simulation;
+
+import com.comp2042.logic.bricks.BrickRandomizer;
+import com.comp2042.model.game.GameLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the parallel game simulator.
+ */
+class SimulatorTest {
+
+    private static final int GAMES = 16;
+    private static final int MAX_PIECES = 200;
+
+    private static Simulator simulator(Simulator.ExecutorKind kind) {
+        return new Simulator(new GreedyPolicy(), BrickRandomizer.SEVEN_BAG, MAX_PIECES, kind, 4);
+    }
+
+    @Test
+    @DisplayName("Both executors produce the same games for the same seed")
+    void testExecutorsAgree() {
+        SimulationReport forkJoin = simulator(Simulator.ExecutorKind.FORK_JOIN).run(GAMES, 11L);
+        SimulationReport virtual = simulator(Simulator.ExecutorKind.VIRTUAL_THREADS).run(GAMES, 11L);
+
+        assertEquals(GAMES, forkJoin.getGames());
+        for (int i = 0; i < GAMES; i++) {
+            GameResult a = forkJoin.getResults().get(i);
+            GameResult b = virtual.getResults().get(i);
+            assertEquals(Simulator.gameSeed(11L, i), a.getSeed());
+            assertEquals(a.getSeed(), b.getSeed());
+            assertEquals(a.getScore(), b.getScore(), "Game " + i + " should replay identically");
+            assertEquals(a.getLines(), b.getLines());
+            assertEquals(a.getPieces(), b.getPieces());
+        }
+        assertEquals(forkJoin.getMeanScore(), virtual.getMeanScore());
+    }
+
+    @Test
+    @DisplayName("A single game replays from its seed")
+    void testReplayFromSeed() {
+        Simulator simulator = simulator(Simulator.ExecutorKind.FORK_JOIN);
+        GameResult fromRun = simulator.run(4, 3L).getResults().get(2);
+        GameResult replay = simulator.playGame(fromRun.getSeed());
+
+        assertEquals(fromRun.getScore(), replay.getScore());
+        assertEquals(fromRun.getLines(), replay.getLines());
+        assertEquals(fromRun.getFinalLevel(), replay.getFinalLevel());
+    }
+
+    @Test
+    @DisplayName("Greedy policy clears lines and statistics add up")
+    void testStatistics() {
+        SimulationReport report = simulator(Simulator.ExecutorKind.FORK_JOIN).run(GAMES, 5L);
+
+        assertTrue(report.getMeanLines() > 0, "Greedy policy should clear lines");
+        int histogramTotal = 0;
+        for (GameLevel level : GameLevel.values()) {
+            histogramTotal += report.getLevelHistogram().get(level);
+        }
+        assertEquals(GAMES, histogramTotal);
+        for (GameResult result : report.getResults()) {
+            assertTrue(result.getPieces() <= MAX_PIECES);
+        }
+        assertTrue(report.getGamesPerSecond() > 0);
+    }
+
+    @Test
+    @DisplayName("Invalid configuration is rejected")
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new Simulator(new GreedyPolicy(),
+                BrickRandomizer.UNIFORM, 0, Simulator.ExecutorKind.FORK_JOIN, 1));
+        IllegalArgumentException negative = assertThrows(IllegalArgumentException.class,
+                () -> simulator(Simulator.ExecutorKind.FORK_JOIN).run(-1, 0L));
+        assertTrue(negative.getMessage().contains("-1"));
+        assertEquals(0, simulator(Simulator.ExecutorKind.VIRTUAL_THREADS).run(0, 0L).getGames());
+    }
+}
@@ -1,60 +0,0 @@
-package com.comp2042.view;
-
-import javafx.animation.FadeTransition;
-import javafx.animation.ParallelTransition;
-import javafx.animation.TranslateTransition;
-import javafx.collections.ObservableList;
-import javafx.event.ActionEvent;
-import javafx.event.EventHandler;
-import javafx.scene.Node;
-import javafx.scene.control.Label;
-import javafx.scene.effect.Effect;
-import javafx.scene.effect.Glow;
-import javafx.scene.layout.BorderPane;
-import javafx.scene.paint.Color;
-import javafx.util.Duration;
-
-
-/**
- * Animated notification panel for displaying score bonuses and achievements.
- * Features fade-out and slide-up animations with glow effects.
- *
- * @author Tooba Nauman
- * @version 1.0
- * @since 2025
- */
-public class NotificationPanel extends BorderPane {
-
-    public NotificationPanel(String text) {
-        setMinHeight(200);
-        setMinWidth(220);
-        final Label score = new Label(text);
-        score.getStyleClass().add("bonusStyle");
-        final Effect glow = new Glow(0.6);
-        score.setEffect(glow);
-        score.setTextFill(Color.WHITE);
-        setCenter(score);
-
-    }
-
-    /**
-     * Displays notification with animation and auto-removes after completion.
-     *
-     * @param list Observable list to remove notification from after animation
-     */
-    public void showScore(ObservableList<Node> list) {
-        FadeTransition ft = new FadeTransition(Duration.millis(2000), this);
-        TranslateTransition tt = new TranslateTransition(Duration.millis(2500), this);
-        tt.setToY(this.getLayoutY() - 40);
-        ft.setFromValue(1);
-        ft.setToValue(0);
-        ParallelTransition transition = new ParallelTransition(tt, ft);
-        transition.setOnFinished(new EventHandler<ActionEvent>() {
-            @Override
-            public void handle(ActionEvent event) {
-                list.remove(NotificationPanel.this);
-            }
-        });
-        transition.play();
-    }
-}
@@ -0,0 +1,255 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.view.GUI.CanvasGameRenderer;
+import com.comp2042.view.GUI.GameRenderer;
+import com.comp2042.view.GUI.NodeGameRenderer;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Headless frame-cost benchmark for the game renderers.
+ * Builds the board panels the way the game layout does, drives each renderer
+ * through the same {@link RenderScript}, and renders every frame off-screen
+ * with a scene snapshot, which runs the CSS, layout and paint passes of a real
+ * pulse. Reports update and paint time percentiles and the scene node count per
+ * renderer on stdout and as CSV.
+ * <p>
+ * Meant to run on the Monocle headless platform, see the render-bench profile.
+ * Options: {@code --frames N}, {@code --warmup N}, {@code --renderers nodes,canvas},
+ * {@code --seed N} and {@code --out file.csv}.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class RenderBenchmark {
+
+    private static final double BOARD_WIDTH = 300;
+    private static final double BOARD_HEIGHT = 600;
+
+    private int frames = 1000;
+    private int warmup = 300;
+    private long seed = 2042L;
+    private List<String> renderers = List.of("nodes", "canvas");
+    private Path out;
+
+    public static void main(String[] args) throws Exception {
+        RenderBenchmark benchmark = new RenderBenchmark();
+        benchmark.parse(args);
+
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+
+        List<Result> results = new ArrayList<>();
+        try {
+            for (String name : benchmark.renderers) {
+                CompletableFuture<Result> result = new CompletableFuture<>();
+                Platform.runLater(() -> {
+                    try {
+                        result.complete(benchmark.run(name));
+                    } catch (Throwable t) {
+                        result.completeExceptionally(t);
+                    }
+                });
+                results.add(result.get());
+            }
+        } finally {
+            Platform.exit();
+        }
+
+        benchmark.report(results);
+    }
+
+    private void parse(String[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--frames" -> frames = Integer.parseInt(value);
+                case "--warmup" -> warmup = Integer.parseInt(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--renderers" -> renderers = Arrays.asList(value.split(","));
+                case "--out" -> out = Paths.get(value);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+    }
+
+    /**
+     * Runs warmup and measured frames for one renderer on the FX thread.
+     *
+     * @param name Renderer name, nodes or canvas
+     * @return Measured frame costs
+     */
+    private Result run(String name) {
+        GridPane brickPanel = new GridPane();
+        brickPanel.setHgap(1);
+        brickPanel.setVgap(1);
+        GridPane gamePanel = new GridPane();
+        gamePanel.setHgap(1);
+        gamePanel.setVgap(1);
+        gamePanel.setLayoutX(40);
+        gamePanel.setLayoutY(10);
+        BorderPane gameBoard = new BorderPane(gamePanel);
+        gameBoard.getStyleClass().add("gameBoard");
+        Pane root = new Pane(brickPanel, gameBoard);
+        root.setPrefSize(BOARD_WIDTH, BOARD_HEIGHT);
+
+        Scene scene = new Scene(root, BOARD_WIDTH, BOARD_HEIGHT);
+        scene.getStylesheets().add(RenderBenchmark.class.getClassLoader()
+                .getResource("window_style.css").toExternalForm());
+
+        GameRenderer renderer = create(name, gamePanel, brickPanel);
+        RenderScript script = new RenderScript(seed);
+        renderer.initialize(script.getBoard(), script.getBrick());
+        renderer.setLavaBackground(true);
+
+        SnapshotParameters parameters = new SnapshotParameters();
+        WritableImage image = new WritableImage((int) BOARD_WIDTH, (int) BOARD_HEIGHT);
+
+        Result result = new Result(name, frames);
+        for (int i = 0; i < warmup + frames; i++) {
+            script.next();
+
+            long start = System.nanoTime();
+            renderer.refreshBrick(script.getBrick());
+            if (script.isBackgroundChanged()) {
+                renderer.refreshBackground(script.getBoard());
+            }
+            renderer.updateLava(script.getLavaDepth());
+            renderer.onFrame(i); // one game tick per frame
+            long updated = System.nanoTime();
+            root.snapshot(parameters, image);
+            long painted = System.nanoTime();
+
+            if (i >= warmup) {
+                result.record(i - warmup, updated - start, painted - updated, countNodes(root));
+            }
+        }
+        // A script that never stacks or clears would only time the falling brick
+        if (script.getMaxFilledCells() == 0 || script.getLinesCleared() == 0) {
+            throw new IllegalStateException("Render script filled " + script.getMaxFilledCells()
+                    + " cells and cleared " + script.getLinesCleared() + " rows; use more frames or another seed");
+        }
+        return result;
+    }
+
+    private static GameRenderer create(String name, GridPane gamePanel, GridPane brickPanel) {
+        return switch (name) {
+            case "nodes" -> new NodeGameRenderer(gamePanel, brickPanel);
+            case "canvas" -> new CanvasGameRenderer(gamePanel, brickPanel);
+            default -> throw new IllegalArgumentException("Unknown renderer " + name);
+        };
+    }
+
+    /**
+     * Counts a node and all of its descendants.
+     *
+     * @param node Root of the subtree
+     * @return Number of nodes in the subtree
+     */
+    static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+    private void report(List<Result> results) throws IOException {
+        System.out.printf(Locale.ROOT, "%nRender benchmark: %d frames after %d warmup, seed %d%n", frames, warmup, seed);
+        System.out.printf(Locale.ROOT, "%-8s %6s %10s %10s %10s %10s %10s %10s %10s%n", "renderer", "nodes",
+                "upd p50", "upd p95", "upd p99", "paint p50", "paint p95", "paint p99", "frame avg");
+        for (Result r : results) {
+            System.out.printf(Locale.ROOT, "%-8s %6d %10.3f %10.3f %10.3f %10.3f %10.3f %10.3f %10.3f%n",
+                    r.name, r.maxNodes, r.update(50), r.update(95), r.update(99),
+                    r.paint(50), r.paint(95), r.paint(99), r.meanFrame());
+        }
+        System.out.println("Times in ms; nodes is the largest scene node count seen.");
+
+        if (out != null) {
+            if (out.getParent() != null) {
+                Files.createDirectories(out.getParent());
+            }
+            try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(out))) {
+                writer.println("renderer,frame,update_ns,paint_ns,nodes");
+                for (Result r : results) {
+                    for (int i = 0; i < r.update.length; i++) {
+                        writer.printf(Locale.ROOT, "%s,%d,%d,%d,%d%n", r.name, i, r.update[i], r.paint[i], r.nodes[i]);
+                    }
+                }
+            }
+            System.out.println("Per-frame results written to " + out.toAbsolutePath());
+        }
+    }
+
+    /**
+     * Per-frame costs of one renderer.
+     */
+    private static final class Result {
+        private final String name;
+        private final long[] update;
+        private final long[] paint;
+        private final int[] nodes;
+        private int maxNodes;
+
+        Result(String name, int frames) {
+            this.name = name;
+            this.update = new long[frames];
+            this.paint = new long[frames];
+            this.nodes = new int[frames];
+        }
+
+        void record(int frame, long updateNanos, long paintNanos, int nodeCount) {
+            update[frame] = updateNanos;
+            paint[frame] = paintNanos;
+            nodes[frame] = nodeCount;
+            maxNodes = Math.max(maxNodes, nodeCount);
+        }
+
+        double update(double percentile) {
+            return percentile(update, percentile);
+        }
+
+        double paint(double percentile) {
+            return percentile(paint, percentile);
+        }
+
+        double meanFrame() {
+            long total = 0;
+            for (int i = 0; i < update.length; i++) {
+                total += update[i] + paint[i];
+            }
+            return update.length == 0 ? 0 : total / 1e6 / update.length;
+        }
+
+        private static double percentile(long[] samples, double percentile) {
+            if (samples.length == 0) return 0;
+            long[] sorted = samples.clone();
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.Data.FrameSnapshot;
+import com.comp2042.model.game.SimpleBoard;
+import com.comp2042.simulation.GreedyPolicy;
+import com.comp2042.simulation.Placement;
+
+import java.util.Random;
+
+/**
+ * Deterministic sequence of game frames for the render benchmark.
+ * Plays a seeded SimpleBoard, so every renderer is driven through exactly the
+ * same bricks, moves, locks, line clears and lava depths. Most bricks go where
+ * the greedy bot would put them, which clears rows; the rest land in a seeded
+ * random spot, which builds the stack up. The brick turns or shifts one step
+ * per frame towards its spot and then falls one row per frame.
+ * Each call to {@link #next()} advances by one frame.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class RenderScript {
+
+    static final int ROWS = 25;
+    static final int COLUMNS = 10;
+    /** Frames per lava step; the depth rises to {@value #MAX_LAVA} rows and drains again. */
+    private static final int LAVA_PERIOD = 45;
+    private static final int MAX_LAVA = 8;
+    /** Percentage of bricks dropped at a random spot instead of the greedy one. */
+    private static final int RANDOM_PERCENT = 30;
+
+    private final SimpleBoard board;
+    private final Random moves;
+    private final GreedyPolicy policy = new GreedyPolicy();
+    private int turnsLeft;
+    private int targetX;
+    private int frame;
+    private boolean backgroundChanged;
+    private int linesCleared;
+    private int maxFilledCells;
+
+    /**
+     * Creates a script from the given seed.
+     *
+     * @param seed Seed for both the brick sequence and the moves
+     */
+    public RenderScript(long seed) {
+        board = new SimpleBoard(ROWS, COLUMNS, seed);
+        board.newGame();
+        moves = new Random(seed);
+        pickTarget();
+    }
+
+    /**
+     * Advances one frame: a turn or shift towards the brick's spot, or a drop,
+     * locking the brick when it lands. A top-out starts a new game so the script never ends.
+     */
+    public void next() {
+        frame++;
+        backgroundChanged = false;
+        if (turnsLeft > 0) {
+            turnsLeft--;
+            board.rotateLeftBrick();
+        } else if (board.getCurrentX() < targetX && board.moveBrickRight()) {
+            // shifted right
+        } else if (board.getCurrentX() > targetX && board.moveBrickLeft()) {
+            // shifted left
+        } else if (!board.moveBrickDown()) {
+            board.mergeBrickToBackground();
+            linesCleared += board.clearRows().getLinesRemoved();
+            maxFilledCells = Math.max(maxFilledCells, countFilled(board.getBoardMatrix()));
+            if (board.createNewBrick()) {
+                board.newGame();
+            }
+            pickTarget();
+            backgroundChanged = true;
+        }
+    }
+
+    /**
+     * Chooses where the new brick goes: the greedy placement or a random one.
+     */
+    private void pickTarget() {
+        if (moves.nextInt(100) < RANDOM_PERCENT) {
+            turnsLeft = moves.nextInt(4);
+            targetX = moves.nextInt(COLUMNS);
+        } else {
+            Placement placement = policy.choose(board);
+            turnsLeft = placement.getRotations();
+            targetX = placement.getX();
+        }
+    }
+
+    /**
+     * @return Snapshot of the falling brick for the current frame
+     */
+    public FrameSnapshot getBrick() {
+        return board.getFrameSnapshot();
+    }
+
+    /**
+     * @return Board matrix for the current frame
+     */
+    public int[][] getBoard() {
+        return board.getBoardMatrix();
+    }
+
+    /**
+     * @return true if a brick locked this frame, so the background must be redrawn
+     */
+    public boolean isBackgroundChanged() {
+        return backgroundChanged;
+    }
+
+    /**
+     * @return Rows cleared since the script started
+     */
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    /**
+     * @return Most locked cells seen on the board after a clear
+     */
+    public int getMaxFilledCells() {
+        return maxFilledCells;
+    }
+
+    /**
+     * @return Lava depth for the current frame, rising and draining in steps
+     */
+    public int getLavaDepth() {
+        int step = (frame / LAVA_PERIOD) % (2 * MAX_LAVA);
+        return step <= MAX_LAVA ? step : 2 * MAX_LAVA - step;
+    }
+
+    private static int countFilled(int[][] matrix) {
+        int filled = 0;
+        for (int[] row : matrix) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    filled++;
+                }
+            }
+        }
+        return filled;
+    }
+}
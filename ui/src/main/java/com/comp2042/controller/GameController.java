@@ -0,0 +1,235 @@
+package com.comp2042.controller;
+
+import com.comp2042.*;
+import com.comp2042.Data.DownData;
+import com.comp2042.Data.FrameSnapshot;
+import com.comp2042.constants.GameConstants;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.model.game.Board;
+import com.comp2042.model.game.FixedTimestepLoop;
+import com.comp2042.model.game.GameEngine;
+import com.comp2042.model.game.GameLevel;
+import com.comp2042.model.game.GameListener;
+import com.comp2042.model.game.SimpleBoard;
+import com.comp2042.model.scoring.HighScoreManager;
+import com.comp2042.model.scoring.LeaderboardManager;
+import com.comp2042.model.scoring.ScoreRecord;
+import com.comp2042.view.GUI.GuiController;
+import com.comp2042.view.LevelUpNotification;
+import com.comp2042.view.ScorePropertyAdapter;
+import javafx.stage.Stage; //added for menu screen
+
+
+
+/**
+ * Main game controller implementing input event handling and game flow.
+ * Coordinates between the game board model and GUI view components.
+ * The lock pipeline itself runs in the headless {@link GameEngine};
+ * this class reacts to its callbacks by updating the view.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+
+public class GameController implements InputEventListener, GameListener {
+
+    private final FixedTimestepLoop gameLoop = new FixedTimestepLoop(GameConstants.GAME_TICK_NANOS);
+
+    /** Seed of the bricks and target missions, saved with the first game's score so it can be replayed. */
+    private final long seed = SeededBrickGenerator.randomSeed();
+
+    private final Board board = new SimpleBoard(25, 10, new RandomBrickGenerator(seed), seed, gameLoop);
+
+    private final GameEngine engine = new GameEngine(board);
+
+
+    private final Stage stage;
+    private final MenuController menuController;
+
+    private final GuiController viewGuiController;
+
+    private LevelUpNotification levelUpNotification;
+
+    /** Lines cleared and game time at the start of the current game, for the leaderboard. */
+    private int linesCleared;
+    private long gameStartNanos;
+
+    /**
+     * False once the board is restarted: a restart keeps drawing from the same
+     * generators, so later games no longer replay from {@link #seed}.
+     */
+    private boolean replayable = true;
+
+    /**
+     * Constructs a GameController with specified view, stage, and menu controller.
+     * Initializes the game board, creates first brick, and sets up view bindings.
+     *
+     * @param c The GUI controller for view management
+     * @param stage The primary stage for scene transitions
+     * @param menuController The menu controller for navigation back to menu
+     */
+
+    public GameController(GuiController c, Stage stage, MenuController menuController) {
+        this.stage = stage;
+        this.menuController = menuController;
+        viewGuiController = c;
+
+        engine.setListener(this);
+        board.createNewBrick();
+        gameStartNanos = gameLoop.nanoTime();
+        viewGuiController.setEventListener(this);
+        viewGuiController.initGameView(board.getBoardMatrix(), board.getFrameSnapshot(), gameLoop);
+        viewGuiController.bindScore(new ScorePropertyAdapter(board.getScore()).scoreProperty());
+    }
+
+    /**
+     * Handles downward movement events for the current brick.
+     * Processes brick landing, line clearing, level progression checks,
+     * and game over conditions for all game modes.
+     *
+     * @param event The move event containing event type and source
+     * @return DownData containing clear row information and the updated frame snapshot
+     */
+        //Edited the onDownEvent
+        @Override
+        public DownData onDownEvent(MoveEvent event) {
+            ClearRow clearRow = engine.moveDown();
+            return new DownData(clearRow, board.getFrameSnapshot());
+        }
+
+    /**
+     * Handles hard drop events: lands and locks the brick in one engine step.
+     *
+     * @param event The move event containing event type and source
+     * @return DownData containing clear row information and the frame snapshot of the next brick
+     */
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        ClearRow clearRow = engine.hardDrop();
+        return new DownData(clearRow, board.getFrameSnapshot());
+    }
+
+    /**
+     * Shows the level-up notification before the board advances.
+     *
+     * @param nextLevel Level the board is about to enter
+     */
+    @Override
+    public void onLevelUp(GameLevel nextLevel) {
+        viewGuiController.showLevelUp(nextLevel.getDisplayName());
+    }
+
+    /**
+     * Refreshes the background and level displays after a brick has been locked.
+     *
+     * @param clearRow Result of the row clear for the locked brick
+     */
+    @Override
+    public void onBrickLocked(ClearRow clearRow) {
+        linesCleared += clearRow.getLinesRemoved();
+        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+
+        // Update lava display if active
+        if (board.getLavaManager().isActive()) {
+            viewGuiController.updateLavaDisplay(board.getLavaManager().getLavaDepth());
+        }
+
+        // Update target challenge display if active
+        if (board.getTargetChallengeManager().isActive()) {
+            viewGuiController.updateTargetChallengeDisplay(
+                    board.getTargetChallengeManager().getRemainingTargetBlocks(),
+                    board.getTargetChallengeManager().getFormattedTime(),
+                    board.getTargetChallengeManager().getCurrentMission()
+            );
+        }
+    }
+
+    /**
+     * Records the final score and shows the game over sequence.
+     * The score goes to the high score table and, with the mode, lines,
+     * game time and, when the game replays from it, the seed, to the mode's
+     * leaderboard. Both stores are loaded in the background at menu startup
+     * and saved in the background.
+     */
+    @Override
+    public void onGameOver() {
+        int score = board.getScore().getScore();
+        HighScoreManager.getDefault().addScore(score);
+        String player = System.getProperty("user.name", "Player");
+        long durationMillis = (gameLoop.nanoTime() - gameStartNanos) / 1_000_000;
+        long now = System.currentTimeMillis();
+        LeaderboardManager.getDefault().record(replayable
+                ? new ScoreRecord(player, board.getCurrentLevel(), score, linesCleared, durationMillis, now, seed)
+                : new ScoreRecord(player, board.getCurrentLevel(), score, linesCleared, durationMillis, now));
+        viewGuiController.gameOver();
+    }
+
+
+
+
+    /**
+     * Retrieves the current game board instance.
+     *
+     * @return The active Board instance
+     */
+
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * Gets the seed the board was created from.
+     *
+     * @return Seed of the brick sequence and target missions
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Handles a frame's worth of horizontal moves as one batch.
+     * Left and right moves all come through here, one column per key press or repeat.
+     *
+     * @param event The move event containing event type and source
+     * @param columns Columns to move, negative for left
+     * @return Frame snapshot with the updated brick and ghost positions
+     */
+    @Override
+    public FrameSnapshot onShiftEvent(MoveEvent event, int columns) {
+        for (int i = 0; i < Math.abs(columns); i++) {
+            boolean moved = columns < 0 ? board.moveBrickLeft() : board.moveBrickRight();
+            if (!moved) {
+                break;
+            }
+        }
+        return board.getFrameSnapshot();
+    }
+
+    /**
+     * Handles rotation events for the current brick.
+     * Attempts to rotate brick left with wall kick support.
+     *
+     * @param event The move event containing event type and source
+     * @return Frame snapshot with the updated brick and ghost positions
+     */
+    @Override
+    public FrameSnapshot onRotateEvent(MoveEvent event) {
+        board.rotateLeftBrick();
+        return board.getFrameSnapshot();
+    }
+
+    /**
+     * Resets the game to initial state with a fresh board.
+     * Clears all blocks and refreshes the game background display.
+     */
+    @Override
+    public void createNewGame() {
+        engine.newGame();
+        replayable = false;
+        linesCleared = 0;
+        gameStartNanos = gameLoop.nanoTime();
+        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+    }
+}
@@ -2,7 +2,7 @@ package com.comp2042.controller;
 
 import com.comp2042.Data.DownData;
 import com.comp2042.MoveEvent;
-import com.comp2042.Data.ViewData;
+import com.comp2042.Data.FrameSnapshot;
 import com.comp2042.model.game.Board;
 
 /**
@@ -20,33 +20,38 @@ public interface InputEventListener {
      * Called when a downward movement event occurs.
      *
      * @param event The move event containing event type and source
-     * @return DownData containing clear row information and view data
+     * @return DownData containing clear row information and the frame snapshot
      */
     DownData onDownEvent(MoveEvent event);
 
     /**
-     * Called when a left movement event occurs.
+     * Called when the player hard drops the current brick.
+     * The brick jumps to its landing row and is locked in one step.
      *
      * @param event The move event containing event type and source
-     * @return ViewData containing updated brick position and display data
+     * @return DownData containing clear row information and the frame snapshot
      */
-    ViewData onLeftEvent(MoveEvent event);
+    DownData onHardDropEvent(MoveEvent event);
 
     /**
-     * Called when a right movement event occurs.
+     * Called with a batch of horizontal moves collected during one frame.
+     * Moves the brick up to |columns| cells, stopping at the first blocked move.
+     * This is the only entry point for left and right moves; a single key press
+     * is a batch of one column.
      *
-     * @param event The move event containing event type and source
-     * @return ViewData containing updated brick position and display data
+     * @param event The move event giving the direction and source
+     * @param columns Columns to move, negative for left
+     * @return Frame snapshot with the updated brick position
      */
-    ViewData onRightEvent(MoveEvent event);
+    FrameSnapshot onShiftEvent(MoveEvent event, int columns);
 
     /**
      * Called when a rotation event occurs.
      *
      * @param event The move event containing event type and source
-     * @return ViewData containing updated brick orientation and display data
+     * @return Frame snapshot with the updated brick orientation
      */
-    ViewData onRotateEvent(MoveEvent event);
+    FrameSnapshot onRotateEvent(MoveEvent event);
 
     /**
      * Called to initialize a new game session.
@@ -1,5 +1,7 @@
 package com.comp2042.controller;
 
+import com.comp2042.model.scoring.HighScoreManager;
+import com.comp2042.model.scoring.LeaderboardManager;
 import com.comp2042.view.GUI.GuiController;
 import com.comp2042.view.MainMenu;
 import javafx.scene.Scene;
@@ -22,11 +24,14 @@ public class MenuController {
     /**
      * Constructs a MenuController with the specified stage.
      * Initializes the main menu and sets up button event handlers.
+     * Starts loading the score stores in the background, so game over does not read them.
      *
      * @param stage The primary stage for scene management
      */
     public MenuController(Stage stage) {
         this.stage = stage;
+        HighScoreManager.preloadDefault();
+        LeaderboardManager.preloadDefault();
         this.mainMenu = new MainMenu();
         setupButtons();
     }
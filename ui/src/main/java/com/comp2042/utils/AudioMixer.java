@@ -0,0 +1,505 @@
+package com.comp2042.utils;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.SourceDataLine;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Software audio mixer feeding a single output line.
+ * One thread mixes every playing voice (music and effects) into fixed blocks
+ * of {@value #BLOCK_FRAMES} frames, applies each voice's gain and writes the
+ * block to one SourceDataLine. Voices are started, stopped and paused through a
+ * lock-free command ring, so the game thread never blocks on audio. When all
+ * voices are busy, a new sound replaces the oldest voice of the lowest priority
+ * below its own, or is dropped.
+ * <p>
+ * Without an output line (no device, headless, tests) the thread mixes in real
+ * time and discards the result, and {@link #mixBlock(short[])} can be called
+ * directly to check the output.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class AudioMixer implements AutoCloseable {
+
+    /** Output format: 44.1 kHz, 16-bit signed little-endian mono. */
+    public static final AudioFormat FORMAT = new AudioFormat(44_100f, 16, 1, true, false);
+    /** Frames mixed per block, about 5.8 ms. */
+    public static final int BLOCK_FRAMES = 256;
+    public static final int DEFAULT_VOICES = 16;
+    /** Blocks of audio the output line buffers ahead. */
+    private static final int LINE_BLOCKS = 4;
+    private static final int QUEUE_CAPACITY = 128;
+
+    /** Priority of sound effects. */
+    public static final int PRIORITY_EFFECT = 1;
+    /** Priority of music, which effects never replace. */
+    public static final int PRIORITY_MUSIC = 10;
+
+    private final boolean openDevice;
+    private volatile SourceDataLine line;
+    private final Voice[] voices;
+    private final CommandQueue commands = new CommandQueue(QUEUE_CAPACITY);
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final short[] block = new short[BLOCK_FRAMES];
+    private final byte[] output = new byte[BLOCK_FRAMES * 2];
+    private final int[] accumulator = new int[BLOCK_FRAMES];
+    private final long blockNanos = (long) (BLOCK_FRAMES * 1e9 / FORMAT.getSampleRate());
+    private long startCounter;
+    private Thread thread;
+    private volatile boolean running;
+    private volatile float masterGain = 1f;
+
+    private volatile long latencyCount;
+    private volatile long latencyTotalNanos;
+    private volatile long latencyMaxNanos;
+    private volatile int droppedVoices;
+
+    /**
+     * Creates a mixer with {@value #DEFAULT_VOICES} voices on the default output device.
+     * The device is opened by the mixer thread; if none is available the mixer runs silently.
+     */
+    public AudioMixer() {
+        this(null, DEFAULT_VOICES, true);
+    }
+
+    /**
+     * Creates a mixer.
+     *
+     * @param line Opened output line in {@link #FORMAT}, or null to mix silently
+     * @param maxVoices Number of voices that can play at once
+     */
+    public AudioMixer(SourceDataLine line, int maxVoices) {
+        this(line, maxVoices, false);
+    }
+
+    private AudioMixer(SourceDataLine line, int maxVoices, boolean openDevice) {
+        this.line = line;
+        this.openDevice = openDevice;
+        this.voices = new Voice[Math.max(1, maxVoices)];
+        for (int i = 0; i < voices.length; i++) {
+            voices[i] = new Voice();
+        }
+    }
+
+    /**
+     * Starts the mixer thread.
+     */
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        thread = new Thread(this::run, "audio-mixer");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * Starts playing a sound. Safe to call from any thread; never blocks.
+     *
+     * @param samples 16-bit mono samples in {@link #FORMAT}; must not be modified afterwards
+     * @param gain Linear gain, 1 for unchanged
+     * @param priority Voice priority, see {@link #PRIORITY_EFFECT} and {@link #PRIORITY_MUSIC}
+     * @param loop true to repeat until stopped
+     * @return Voice id for later commands, or 0 if the command queue was full
+     */
+    public long play(short[] samples, float gain, int priority, boolean loop) {
+        long id = nextId.getAndIncrement();
+        return commands.offer(Command.PLAY, id, samples, gain, priority, loop, System.nanoTime()) ? id : 0;
+    }
+
+    /**
+     * Stops a voice.
+     *
+     * @param id Voice id returned by {@link #play}
+     */
+    public void stop(long id) {
+        commands.offer(Command.STOP, id, null, 0, 0, false, 0);
+    }
+
+    /**
+     * Pauses or resumes a voice, keeping its position.
+     *
+     * @param id Voice id returned by {@link #play}
+     * @param paused true to pause
+     */
+    public void setPaused(long id, boolean paused) {
+        commands.offer(paused ? Command.PAUSE : Command.RESUME, id, null, 0, 0, false, 0);
+    }
+
+    /**
+     * Changes the gain of a playing voice.
+     *
+     * @param id Voice id returned by {@link #play}
+     * @param gain Linear gain
+     */
+    public void setGain(long id, float gain) {
+        commands.offer(Command.GAIN, id, null, gain, 0, false, 0);
+    }
+
+    public void setMasterGain(float masterGain) {
+        this.masterGain = masterGain;
+    }
+
+    /**
+     * Applies pending commands and mixes the next block of every playing voice.
+     * Called by the mixer thread; call directly only on a mixer that was not started.
+     *
+     * @param out Receives {@link #BLOCK_FRAMES} mixed samples
+     */
+    public void mixBlock(short[] out) {
+        applyCommands();
+
+        Arrays.fill(accumulator, 0);
+        float master = masterGain;
+        for (Voice voice : voices) {
+            if (!voice.active || voice.paused) continue;
+            if (voice.requestNanos != 0) {
+                recordLatency(System.nanoTime() - voice.requestNanos + queuedNanos());
+                voice.requestNanos = 0;
+            }
+            int gain = Math.round(voice.gain * master * 256);
+            short[] samples = voice.samples;
+            int position = voice.position;
+            for (int i = 0; i < BLOCK_FRAMES; i++) {
+                if (position >= samples.length) {
+                    if (!voice.loop || samples.length == 0) {
+                        voice.active = false;
+                        break;
+                    }
+                    position = 0;
+                }
+                accumulator[i] += (samples[position++] * gain) >> 8;
+            }
+            voice.position = position;
+        }
+
+        for (int i = 0; i < BLOCK_FRAMES; i++) {
+            int sample = accumulator[i];
+            out[i] = (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, sample));
+        }
+    }
+
+    /**
+     * @return Number of voices currently playing or paused; approximate off the mixer thread
+     */
+    public int getActiveVoices() {
+        int count = 0;
+        for (Voice voice : voices) {
+            if (voice.active) count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return Sounds dropped because all voices were busy with higher priority sounds or the queue was full
+     */
+    public int getDroppedVoices() {
+        return droppedVoices + commands.getRejected();
+    }
+
+    /**
+     * @return true if audio goes to a device, false if mixing silently
+     */
+    public boolean hasOutput() {
+        return line != null;
+    }
+
+    /**
+     * @return Number of started voices whose latency was measured
+     */
+    public long getLatencyCount() {
+        return latencyCount;
+    }
+
+    /**
+     * @return Mean time from {@link #play} to the sound reaching the output, in milliseconds
+     */
+    public double getMeanLatencyMillis() {
+        long count = latencyCount;
+        return count == 0 ? 0 : latencyTotalNanos / 1e6 / count;
+    }
+
+    /**
+     * @return Longest time from {@link #play} to the sound reaching the output, in milliseconds
+     */
+    public double getMaxLatencyMillis() {
+        return latencyMaxNanos / 1e6;
+    }
+
+    /**
+     * Converts 16-bit little-endian PCM bytes to samples.
+     *
+     * @param data PCM bytes in {@link #FORMAT}
+     * @return Samples
+     */
+    public static short[] toSamples(byte[] data) {
+        short[] samples = new short[data.length / 2];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = (short) ((data[2 * i] & 0xFF) | (data[2 * i + 1] << 8));
+        }
+        return samples;
+    }
+
+    /**
+     * Stops the mixer thread and closes the output line.
+     */
+    @Override
+    public void close() {
+        Thread mixerThread;
+        synchronized (this) {
+            running = false;
+            mixerThread = thread;
+            thread = null;
+        }
+        if (mixerThread != null) {
+            try {
+                mixerThread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        SourceDataLine output = line;
+        if (output != null) {
+            output.stop();
+            output.close();
+        }
+    }
+
+    private static SourceDataLine openDefaultLine() {
+        try {
+            SourceDataLine line = AudioSystem.getSourceDataLine(FORMAT);
+            line.open(FORMAT, BLOCK_FRAMES * 2 * LINE_BLOCKS);
+            return line;
+        } catch (Exception e) {
+            // No usable audio device (e.g. headless); mix silently
+            System.err.println("Audio output unavailable: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void run() {
+        if (openDevice) {
+            line = openDefaultLine();
+        }
+        SourceDataLine line = this.line;
+        if (line != null) {
+            line.start();
+        }
+        long deadline = System.nanoTime();
+        while (running) {
+            mixBlock(block);
+            if (line != null) {
+                for (int i = 0; i < BLOCK_FRAMES; i++) {
+                    output[2 * i] = (byte) block[i];
+                    output[2 * i + 1] = (byte) (block[i] >> 8);
+                }
+                // Blocks while the line's buffer is full, which paces the loop
+                line.write(output, 0, output.length);
+            } else {
+                deadline += blockNanos;
+                long wait = deadline - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                } else {
+                    deadline = System.nanoTime();
+                }
+            }
+        }
+    }
+
+    /**
+     * Estimates how long audio already written to the line takes to play.
+     */
+    private long queuedNanos() {
+        SourceDataLine line = this.line;
+        if (line == null) return 0;
+        int queuedBytes = line.getBufferSize() - line.available();
+        return (long) (queuedBytes / 2 * 1e9 / FORMAT.getSampleRate());
+    }
+
+    private void recordLatency(long nanos) {
+        // Only the mixing thread writes these
+        latencyCount = latencyCount + 1;
+        latencyTotalNanos = latencyTotalNanos + nanos;
+        if (nanos > latencyMaxNanos) {
+            latencyMaxNanos = nanos;
+        }
+    }
+
+    private void applyCommands() {
+        Command command;
+        while ((command = commands.peek()) != null) {
+            switch (command.type) {
+                case Command.PLAY -> startVoice(command);
+                case Command.STOP -> {
+                    Voice voice = find(command.id);
+                    if (voice != null) voice.active = false;
+                }
+                case Command.PAUSE, Command.RESUME -> {
+                    Voice voice = find(command.id);
+                    if (voice != null) voice.paused = command.type == Command.PAUSE;
+                }
+                case Command.GAIN -> {
+                    Voice voice = find(command.id);
+                    if (voice != null) voice.gain = command.gain;
+                }
+                default -> { }
+            }
+            commands.release();
+        }
+    }
+
+    /**
+     * Starts a voice in a free slot, or steals the oldest voice of the lowest priority
+     * that is not above the new sound's priority.
+     */
+    private void startVoice(Command command) {
+        Voice target = null;
+        for (Voice voice : voices) {
+            if (!voice.active) {
+                target = voice;
+                break;
+            }
+            if (voice.priority <= command.priority && (target == null || voice.priority < target.priority
+                    || (voice.priority == target.priority && voice.startOrder < target.startOrder))) {
+                target = voice;
+            }
+        }
+        if (target == null) {
+            droppedVoices++;
+            return;
+        }
+        target.id = command.id;
+        target.samples = command.samples;
+        target.position = 0;
+        target.gain = command.gain;
+        target.priority = command.priority;
+        target.loop = command.loop;
+        target.paused = false;
+        target.requestNanos = command.requestNanos;
+        target.startOrder = startCounter++;
+        target.active = true;
+    }
+
+    private Voice find(long id) {
+        for (Voice voice : voices) {
+            if (voice.active && voice.id == id) return voice;
+        }
+        return null;
+    }
+
+    /**
+     * Mixer-thread state of one playing sound.
+     */
+    private static final class Voice {
+        private long id;
+        private short[] samples;
+        private int position;
+        private float gain;
+        private int priority;
+        private boolean loop;
+        private boolean paused;
+        private boolean active;
+        private long requestNanos;
+        private long startOrder;
+    }
+
+    /**
+     * Reusable command slot of the queue.
+     */
+    private static final class Command {
+        static final int PLAY = 0;
+        static final int STOP = 1;
+        static final int PAUSE = 2;
+        static final int RESUME = 3;
+        static final int GAIN = 4;
+
+        int type;
+        long id;
+        short[] samples;
+        float gain;
+        int priority;
+        boolean loop;
+        long requestNanos;
+    }
+
+    /**
+     * Bounded lock-free queue with many producers and the mixer thread as its
+     * only consumer. Each slot carries a sequence number: producers claim a slot
+     * by advancing the tail with a compare-and-set, fill the preallocated command
+     * and publish it by bumping the slot's sequence; the consumer hands the slot
+     * back the same way. Nothing is allocated per command.
+     */
+    private static final class CommandQueue {
+        private final Command[] slots;
+        private final AtomicLongArray sequence;
+        private final AtomicLong tail = new AtomicLong();
+        private final int mask;
+        private long head;
+        private final AtomicLong rejected = new AtomicLong();
+
+        CommandQueue(int capacity) {
+            int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+            slots = new Command[size];
+            sequence = new AtomicLongArray(size);
+            for (int i = 0; i < size; i++) {
+                slots[i] = new Command();
+                sequence.set(i, i);
+            }
+            mask = size - 1;
+        }
+
+        boolean offer(int type, long id, short[] samples, float gain, int priority, boolean loop, long requestNanos) {
+            long position = tail.get();
+            while (true) {
+                int index = (int) (position & mask);
+                long difference = sequence.get(index) - position;
+                if (difference == 0) {
+                    if (tail.compareAndSet(position, position + 1)) {
+                        Command command = slots[index];
+                        command.type = type;
+                        command.id = id;
+                        command.samples = samples;
+                        command.gain = gain;
+                        command.priority = priority;
+                        command.loop = loop;
+                        command.requestNanos = requestNanos;
+                        sequence.set(index, position + 1);
+                        return true;
+                    }
+                    position = tail.get();
+                } else if (difference < 0) {
+                    rejected.incrementAndGet();
+                    return false;
+                } else {
+                    position = tail.get();
+                }
+            }
+        }
+
+        /**
+         * @return The oldest published command, or null if none; must be released after use
+         */
+        Command peek() {
+            int index = (int) (head & mask);
+            return sequence.get(index) == head + 1 ? slots[index] : null;
+        }
+
+        void release() {
+            int index = (int) (head & mask);
+            slots[index].samples = null;
+            sequence.set(index, head + slots.length);
+            head++;
+        }
+
+        int getRejected() {
+            return (int) rejected.get();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.comp2042.utils;
+
+/**
+ * Game sound effects.
+ * Each effect is loaded from a WAV file under /sfx on the classpath. If the
+ * file is missing, a short synthesized tone with the given pitch, length and
+ * sweep is used instead, so every effect is audible without assets.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public enum SoundEffect {
+    MOVE("move.wav", 660, 660, 35),
+    ROTATE("rotate.wav", 880, 990, 50),
+    DROP("drop.wav", 220, 110, 90),
+    LINE_CLEAR("line_clear.wav", 523, 1047, 220),
+    GAME_OVER("game_over.wav", 392, 98, 700);
+
+    private final String fileName;
+    private final double startHz;
+    private final double endHz;
+    private final int durationMs;
+
+    SoundEffect(String fileName, double startHz, double endHz, int durationMs) {
+        this.fileName = fileName;
+        this.startHz = startHz;
+        this.endHz = endHz;
+        this.durationMs = durationMs;
+    }
+
+    /**
+     * @return Classpath resource of the effect's WAV file
+     */
+    public String getResource() {
+        return "/sfx/" + fileName;
+    }
+
+    /**
+     * @return Pitch at the start of the fallback tone in Hz
+     */
+    public double getStartHz() {
+        return startHz;
+    }
+
+    /**
+     * @return Pitch at the end of the fallback tone in Hz
+     */
+    public double getEndHz() {
+        return endHz;
+    }
+
+    /**
+     * @return Length of the fallback tone in milliseconds
+     */
+    public int getDurationMs() {
+        return durationMs;
+    }
+}
@@ -0,0 +1,225 @@
+package com.comp2042.utils;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Low-latency sound effect engine.
+ * Every {@link SoundEffect} is decoded once, on a background thread, to 16-bit
+ * mono PCM. Playing an effect starts a voice on the shared {@link AudioMixer},
+ * so overlapping effects need no file I/O, decoding or line setup on key press.
+ * <p>
+ * Latency is measured by the mixer, from the play call to the block holding the
+ * effect's first samples reaching the output. Without an audio device the mixer
+ * runs silently and effects still play through it, inaudibly.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class SoundEffects {
+
+    /** Format all effects are decoded or synthesized to. */
+    public static final AudioFormat FORMAT = AudioMixer.FORMAT;
+    private static final double TONE_DECAY = 5.0;
+    private static final short TONE_AMPLITUDE = 9000;
+
+    private final AudioMixer mixer;
+    private final Map<SoundEffect, byte[]> samples = new EnumMap<>(SoundEffect.class);
+    private final Map<SoundEffect, short[]> voices = new EnumMap<>(SoundEffect.class);
+    private volatile boolean ready;
+    private volatile boolean enabled = true;
+    private volatile float gain = 1f;
+
+    /**
+     * Creates an engine.
+     *
+     * @param mixer Mixer the effects play on
+     */
+    public SoundEffects(AudioMixer mixer) {
+        this.mixer = mixer;
+    }
+
+    /**
+     * Starts decoding the effects on a daemon thread.
+     * Effects played before loading finishes are skipped.
+     */
+    public void preloadAsync() {
+        Thread loader = new Thread(this::preload, "sfx-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Decodes every effect on the calling thread.
+     */
+    public void preload() {
+        synchronized (samples) {
+            if (ready) return;
+            for (SoundEffect effect : SoundEffect.values()) {
+                byte[] data = load(effect);
+                samples.put(effect, data);
+                voices.put(effect, AudioMixer.toSamples(data));
+            }
+            ready = true;
+        }
+    }
+
+    /**
+     * Plays an effect. Does nothing if effects are disabled or not loaded.
+     *
+     * @param effect Effect to play
+     */
+    public void play(SoundEffect effect) {
+        if (!enabled || !ready) return;
+        mixer.play(voices.get(effect), gain, AudioMixer.PRIORITY_EFFECT, false);
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets the gain of effects played from now on.
+     *
+     * @param gain Linear gain, 1 for unchanged
+     */
+    public void setGain(float gain) {
+        this.gain = gain;
+    }
+
+    /**
+     * @return true once loading has finished, whether or not a device was found
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * @return true if effects are loaded and the mixer has an output device
+     */
+    public boolean isAvailable() {
+        return ready && mixer.hasOutput();
+    }
+
+    /**
+     * Gets the decoded PCM of an effect in {@link #FORMAT}.
+     *
+     * @param effect Effect
+     * @return Sample bytes, or null before loading
+     */
+    public byte[] getSamples(SoundEffect effect) {
+        return ready ? samples.get(effect) : null;
+    }
+
+    /**
+     * @return Number of sounds whose start latency was measured
+     */
+    public long getLatencyCount() {
+        return mixer.getLatencyCount();
+    }
+
+    /**
+     * @return Mean time from play call to output in milliseconds, 0 if none measured
+     */
+    public double getMeanLatencyMillis() {
+        return mixer.getMeanLatencyMillis();
+    }
+
+    /**
+     * @return Longest time from play call to output in milliseconds
+     */
+    public double getMaxLatencyMillis() {
+        return mixer.getMaxLatencyMillis();
+    }
+
+    /**
+     * Loads an effect's WAV resource, falling back to its synthesized tone.
+     *
+     * @param effect Effect to load
+     * @return PCM samples in {@link #FORMAT}
+     */
+    static byte[] load(SoundEffect effect) {
+        URL url = SoundEffects.class.getResource(effect.getResource());
+        if (url != null) {
+            try {
+                return decode(url);
+            } catch (Exception e) {
+                System.err.println("Error loading " + effect.getResource() + ": " + e.getMessage());
+            }
+        }
+        return synthesize(effect.getStartHz(), effect.getEndHz(), effect.getDurationMs());
+    }
+
+    /**
+     * Decodes an audio file to PCM in {@link #FORMAT}.
+     *
+     * @param url Audio file
+     * @return PCM samples
+     * @throws Exception if the file cannot be read or converted
+     */
+    static byte[] decode(URL url) throws Exception {
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(url)) {
+            AudioFormat sourceFormat = source.getFormat();
+            AudioFormat pcm = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, sourceFormat.getSampleRate(), 16,
+                    sourceFormat.getChannels(), sourceFormat.getChannels() * 2, sourceFormat.getSampleRate(), false);
+            try (AudioInputStream decoded = AudioSystem.getAudioInputStream(pcm, source);
+                 AudioInputStream converted = AudioSystem.getAudioInputStream(FORMAT, toMono(decoded))) {
+                return readAll(converted);
+            }
+        }
+    }
+
+    /**
+     * Synthesizes a sine tone sweeping between two pitches with an exponential fade out.
+     *
+     * @param startHz Pitch at the start
+     * @param endHz Pitch at the end
+     * @param durationMs Length in milliseconds
+     * @return PCM samples in {@link #FORMAT}
+     */
+    static byte[] synthesize(double startHz, double endHz, int durationMs) {
+        int frames = (int) (FORMAT.getSampleRate() * durationMs / 1000);
+        byte[] data = new byte[frames * 2];
+        double phase = 0;
+        for (int i = 0; i < frames; i++) {
+            double t = (double) i / frames;
+            double hz = startHz + (endHz - startHz) * t;
+            phase += 2 * Math.PI * hz / FORMAT.getSampleRate();
+            double attack = Math.min(1.0, i / 64.0);
+            short sample = (short) (Math.sin(phase) * TONE_AMPLITUDE * attack * Math.exp(-TONE_DECAY * t));
+            data[2 * i] = (byte) sample;
+            data[2 * i + 1] = (byte) (sample >> 8);
+        }
+        return data;
+    }
+
+    private static AudioInputStream toMono(AudioInputStream stereo) {
+        if (stereo.getFormat().getChannels() == 1) {
+            return stereo;
+        }
+        AudioFormat format = stereo.getFormat();
+        AudioFormat mono = new AudioFormat(format.getSampleRate(), 16, 1, true, false);
+        return AudioSystem.getAudioInputStream(mono, stereo);
+    }
+
+    private static byte[] readAll(AudioInputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) > 0) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,216 @@
+package com.comp2042.utils;
+
+import java.net.URL;
+
+/**
+ * Audio manager using Java's built-in sound API for game sound effects.
+ * Handles background music playback with loop, volume, and mute controls.
+ * Supports WAV audio format only.
+ * Music and effects are decoded on a background thread, so creating the manager
+ * does not delay the game scene. Both play as voices of one {@link AudioMixer},
+ * which owns the only output line; effects come from {@link SoundEffects}.
+ * The game uses one shared manager, see {@link #getDefault()}, so every game
+ * scene plays through the same mixer thread and line.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class SoundManager implements AutoCloseable {
+
+    private final AudioMixer mixer = new AudioMixer();
+    private final SoundEffects effects = new SoundEffects(mixer);
+    private volatile short[] backgroundMusic;
+    /** Mixer voice of the music, 0 while not started. */
+    private long musicVoice;
+    /** true while music should be playing, so music that finishes loading late can start. */
+    private volatile boolean musicPlaying;
+    private boolean musicEnabled = true;
+    private boolean soundEnabled = true;
+    private float volume = 0.5f; // 50% volume
+
+
+    /**
+     * Holds the shared manager, created on first use.
+     */
+    private static final class DefaultHolder {
+        private static final SoundManager INSTANCE = createDefault();
+
+        private static SoundManager createDefault() {
+            SoundManager manager = new SoundManager();
+            Runtime.getRuntime().addShutdownHook(new Thread(manager::close, "sound-shutdown"));
+            return manager;
+        }
+    }
+
+    /**
+     * Returns the shared manager. Its mixer thread and output line live for the
+     * whole process and are released when the JVM shuts down.
+     *
+     * @return The shared sound manager
+     */
+    public static SoundManager getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Initializes sound manager, starts the mixer and loads music and effects in the background.
+     */
+    public SoundManager() {
+        mixer.start();
+        Thread loader = new Thread(() -> {
+            effects.preload();
+            loadBackgroundMusic();
+        }, "sound-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Decodes the background music WAV file for looped playback on the mixer.
+     */
+    private void loadBackgroundMusic() {
+        try {
+            URL musicUrl = getClass().getResource("/background_music.wav"); // Note: Use WAV format
+            if (musicUrl != null) {
+                backgroundMusic = AudioMixer.toSamples(SoundEffects.decode(musicUrl));
+                System.out.println("Background music loaded successfully!");
+
+                // Start now if playback was requested while loading
+                if (musicPlaying && musicEnabled) {
+                    playMusic();
+                }
+            } else {
+                System.err.println("Background music file not found!");
+            }
+        } catch (Exception e) {
+            System.err.println("Error loading background music: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Starts the looping music voice, or resumes it if paused.
+     */
+    private synchronized void playMusic() {
+        if (backgroundMusic == null) return;
+        if (musicVoice == 0) {
+            musicVoice = mixer.play(backgroundMusic, volume, AudioMixer.PRIORITY_MUSIC, true);
+        } else {
+            mixer.setPaused(musicVoice, false);
+        }
+    }
+
+    /**
+     * Starts playing background music in continuous loop if enabled.
+     */
+    public void startBackgroundMusic() {
+        musicPlaying = musicEnabled;
+        if (backgroundMusic != null && musicEnabled) {
+            playMusic();
+            System.out.println("Background music started");
+        }
+    }
+
+    /**
+     * Stops background music
+     */
+    public synchronized void stopBackgroundMusic() {
+        musicPlaying = false;
+        if (musicVoice != 0) {
+            mixer.stop(musicVoice);
+            musicVoice = 0;
+            System.out.println("Background music stopped");
+        }
+    }
+
+    /**
+     * Pauses background music
+     */
+    public synchronized void pauseBackgroundMusic() {
+        musicPlaying = false;
+        if (musicVoice != 0) {
+            mixer.setPaused(musicVoice, true);
+            System.out.println("Background music paused");
+        }
+    }
+
+    /**
+     * Resumes background music
+     */
+    public void resumeBackgroundMusic() {
+        musicPlaying = musicEnabled;
+        if (backgroundMusic != null && musicEnabled) {
+            playMusic();
+            System.out.println("Background music resumed");
+        }
+    }
+
+    /**
+     * Toggles music on/off
+     */
+    public void toggleBackgroundMusic() {
+        musicEnabled = !musicEnabled;
+        if (musicEnabled) {
+            startBackgroundMusic();
+        } else {
+            pauseBackgroundMusic();
+        }
+    }
+
+    // Sound effect methods; skipped while effects are still loading
+    public void playMove() {
+        effects.play(SoundEffect.MOVE);
+    }
+
+    public void playRotate() {
+        effects.play(SoundEffect.ROTATE);
+    }
+
+    public void playDrop() {
+        effects.play(SoundEffect.DROP);
+    }
+
+    public void playLineClear() {
+        effects.play(SoundEffect.LINE_CLEAR);
+    }
+
+    public void playGameOver() {
+        effects.play(SoundEffect.GAME_OVER);
+    }
+
+    /**
+     * Gets the sound effect engine, e.g. for its latency statistics.
+     *
+     * @return The effect engine
+     */
+    public SoundEffects getEffects() {
+        return effects;
+    }
+
+    /**
+     * Gets the mixer all sounds play on, e.g. for its voice count.
+     *
+     * @return The mixer
+     */
+    public AudioMixer getMixer() {
+        return mixer;
+    }
+
+    /**
+     * Stops the mixer thread and releases the output line.
+     * Only needed for managers created directly; the shared one is closed at shutdown.
+     */
+    @Override
+    public void close() {
+        stopBackgroundMusic();
+        mixer.close();
+    }
+
+    public boolean isMusicEnabled() {
+        return musicEnabled;
+    }
+
+    public void setMusicEnabled(boolean enabled) {
+        this.musicEnabled = enabled;
+    }
+}
\ No newline at end of file
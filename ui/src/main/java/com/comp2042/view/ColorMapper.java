@@ -0,0 +1,25 @@
+package com.comp2042.view;
+
+import javafx.scene.paint.Color;
+
+/**
+ * Maps color codes to vibrant JavaFX colors for game elements.
+ * Provides bold, high-contrast colors for better visibility.
+ * Colors come from the pre-built tables of the active {@link Palette}.
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public final class ColorMapper {
+    private ColorMapper() {}
+
+    /**
+     * Gets vibrant color for given code from the active palette.
+     * Returns a shared instance, so no Color is allocated per call.
+     * @param colorCode Color code (0-7)
+     * @return Bold JavaFX Color
+     */
+    public static Color getColor(int colorCode) {
+        return Palette.current().cell(colorCode);
+    }
+}
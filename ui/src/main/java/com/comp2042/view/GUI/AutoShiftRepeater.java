@@ -0,0 +1,134 @@
+package com.comp2042.view.GUI;
+
+import com.comp2042.constants.GameConstants;
+
+/**
+ * Delayed auto shift (DAS) and auto repeat rate (ARR) for the horizontal keys.
+ * Key presses and releases only change the held state; the game loop calls
+ * {@link #tick()} once per tick and the repeats it generates pile up until the
+ * frame drains them with {@link #drainShift()}, so a held key moves at the same
+ * speed whatever the OS key-repeat rate or the frame rate.
+ * The most recently pressed direction wins while both are held.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public final class AutoShiftRepeater {
+
+    /** Shift per tick when the repeat rate is 0: enough to reach any wall. */
+    private static final int INSTANT_SHIFT = GameConstants.BOARD_WIDTH;
+
+    private final int delayTicks;
+    private final int repeatTicks;
+    private boolean leftHeld;
+    private boolean rightHeld;
+    private int direction;
+    private int heldTicks;
+    private int pendingShift;
+
+    /**
+     * Creates a repeater with the default timings from GameConstants.
+     */
+    public AutoShiftRepeater() {
+        this(GameConstants.DAS_TICKS, GameConstants.ARR_TICKS);
+    }
+
+    /**
+     * Creates a repeater with the given timings.
+     *
+     * @param delayTicks Ticks a key must be held before repeating starts
+     * @param repeatTicks Ticks between repeats, 0 to shift straight to the wall
+     * @throws IllegalArgumentException if a timing is negative
+     */
+    public AutoShiftRepeater(int delayTicks, int repeatTicks) {
+        if (delayTicks < 0 || repeatTicks < 0) {
+            throw new IllegalArgumentException("Auto shift timings must not be negative");
+        }
+        this.delayTicks = delayTicks;
+        this.repeatTicks = repeatTicks;
+    }
+
+    /**
+     * Records a key press. Repeated presses of a held key, as sent by OS key repeat, are ignored.
+     *
+     * @param shift -1 for left, 1 for right
+     * @return true if this was a new press, which has queued one immediate shift
+     */
+    public boolean press(int shift) {
+        if (shift < 0 ? leftHeld : rightHeld) {
+            return false;
+        }
+        if (shift < 0) {
+            leftHeld = true;
+        } else {
+            rightHeld = true;
+        }
+        startCharging(shift < 0 ? -1 : 1);
+        pendingShift += direction;
+        return true;
+    }
+
+    /**
+     * Records a key release. If the other direction is still held it takes over,
+     * starting its own delay without an extra immediate shift.
+     *
+     * @param shift -1 for left, 1 for right
+     */
+    public void release(int shift) {
+        if (shift < 0) {
+            leftHeld = false;
+        } else {
+            rightHeld = false;
+        }
+        if (leftHeld) {
+            startCharging(-1);
+        } else if (rightHeld) {
+            startCharging(1);
+        } else {
+            direction = 0;
+        }
+    }
+
+    /**
+     * Releases both keys and drops pending shifts, e.g. on pause or focus loss.
+     */
+    public void reset() {
+        leftHeld = false;
+        rightHeld = false;
+        direction = 0;
+        pendingShift = 0;
+    }
+
+    /**
+     * Advances the held key by one game tick and queues any repeats that fall due.
+     */
+    public void tick() {
+        if (direction == 0) return;
+
+        heldTicks++;
+        if (heldTicks < delayTicks) return;
+
+        if (repeatTicks == 0) {
+            pendingShift += direction * INSTANT_SHIFT;
+        } else if ((heldTicks - delayTicks) % repeatTicks == 0) {
+            pendingShift += direction;
+        }
+    }
+
+    /**
+     * Takes the shifts queued since the last call, to apply as one batch.
+     *
+     * @return Net columns to move, negative for left
+     */
+    public int drainShift() {
+        int shift = pendingShift;
+        pendingShift = 0;
+        return shift;
+    }
+
+    private void startCharging(int newDirection) {
+        direction = newDirection;
+        heldTicks = 0;
+    }
+}
@@ -0,0 +1,186 @@
+package com.comp2042.view.GUI;
+
+import com.comp2042.view.ColorMapper;
+import com.comp2042.view.Palette;
+import com.comp2042.view.RectangleRenderer;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.paint.Color;
+import com.comp2042.Data.FrameSnapshot;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.constants.GameConstants;
+
+/**
+ * Manages rendering of current and ghost bricks.
+ * Cells are restyled when the brick shape changes or the palette was switched
+ * since they were last drawn.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class BrickRenderer {
+
+    private static final int BRICK_SIZE = GameConstants.BRICK_SIZE;
+
+    private final GridPane gamePanel;
+    private final GridPane brickPanel;
+    private GridPane ghostBrickPanel;
+    private Rectangle[][] rectangles;
+    private Rectangle[][] ghostRectangles;
+    private boolean showGhost = true;
+    private BrickShape brickShape;
+    private BrickShape ghostShape;
+    private Palette brickPalette;
+    private Palette ghostPalette;
+
+    public BrickRenderer(GridPane gamePanel, GridPane brickPanel, Pane parentPane) {
+        this.gamePanel = gamePanel;
+        this.brickPanel = brickPanel;
+        initializeGhostPanel(parentPane);
+    }
+
+    public void initializeBrickDisplay(BrickShape shape) {
+        rectangles = new Rectangle[shape.getRowCount()][shape.getColumnCount()];
+        for (int i = 0; i < shape.getRowCount(); i++) {
+            for (int j = 0; j < shape.getColumnCount(); j++) {
+                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
+                rectangle.setFill(ColorMapper.getColor(shape.getValue(i, j)));
+                rectangle.setOpacity(1.0);
+                rectangles[i][j] = rectangle;
+                brickPanel.add(rectangle, j, i);
+            }
+        }
+    }
+
+    private void initializeGhostPanel(Pane parentPane) {
+        ghostBrickPanel = new GridPane();
+        ghostBrickPanel.setHgap(1);
+        ghostBrickPanel.setVgap(1);
+        ghostBrickPanel.setStyle("-fx-background-color: transparent;");
+
+        parentPane.getChildren().add(ghostBrickPanel);
+    }
+
+    private void initializeGhostRectangles(int rows, int columns) {
+        ghostBrickPanel.getChildren().clear();
+
+        ghostRectangles = new Rectangle[rows][columns];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
+                rectangle.setFill(Color.TRANSPARENT); // Ghost opacity comes from the palette
+                ghostRectangles[i][j] = rectangle;
+                ghostBrickPanel.add(rectangle, j, i);
+            }
+        }
+        ghostShape = null;
+    }
+
+    /**
+     * Moves the current brick and its ghost to the snapshot position.
+     * Cells are only restyled when the shape, rotation or palette changed.
+     *
+     * @param brick Current frame snapshot, ignored when null
+     */
+    public void refreshBrick(FrameSnapshot brick) {
+        if (brick == null) return;
+
+        // Position current brick
+        brickPanel.setLayoutX(gamePanel.getLayoutX() + brick.getxPosition() * brickPanel.getVgap()
+                + brick.getxPosition() * BRICK_SIZE);
+        brickPanel.setLayoutY(-42 + gamePanel.getLayoutY() + brick.getyPosition() * brickPanel.getHgap()
+                + brick.getyPosition() * BRICK_SIZE);
+
+        // Update current brick colors - FULL BRIGHTNESS
+        BrickShape shape = brick.getShape();
+        if (shape != brickShape || Palette.current() != brickPalette) {
+            styleBrick(shape);
+        }
+
+        // Update ghost brick
+        updateGhostBrick(brick);
+    }
+
+    private void updateGhostBrick(FrameSnapshot brick) {
+        if (!showGhost) {
+            if (ghostBrickPanel != null) {
+                ghostBrickPanel.setVisible(false);
+            }
+            return;
+        }
+
+        BrickShape shape = brick.getShape();
+
+        // Reinitialize if needed
+        if (ghostRectangles == null ||
+                ghostRectangles.length != shape.getRowCount() ||
+                ghostRectangles[0].length != shape.getColumnCount()) {
+            initializeGhostRectangles(shape.getRowCount(), shape.getColumnCount());
+        }
+
+        int ghostX = brick.getxPosition();
+        int ghostY = brick.getGhostYPosition();
+
+        // Position ghost panel
+        ghostBrickPanel.setLayoutX(gamePanel.getLayoutX() + ghostX * brickPanel.getVgap()
+                + ghostX * BRICK_SIZE);
+        ghostBrickPanel.setLayoutY(-42 + gamePanel.getLayoutY() + ghostY * brickPanel.getHgap()
+                + ghostY * BRICK_SIZE);
+
+        // Set ghost colors - translucent variants of the brick colors
+        if (shape != ghostShape || Palette.current() != ghostPalette) {
+            styleGhost(shape);
+        }
+
+        ghostBrickPanel.setVisible(true);
+    }
+
+    /**
+     * Restyles the brick and its ghost in place if the palette was switched
+     * since they were drawn. Cheap enough to call every frame.
+     */
+    public void refreshPalette() {
+        Palette palette = Palette.current();
+        if (brickShape != null && palette != brickPalette) {
+            styleBrick(brickShape);
+        }
+        if (ghostShape != null && palette != ghostPalette) {
+            styleGhost(ghostShape);
+        }
+    }
+
+    private void styleBrick(BrickShape shape) {
+        Palette palette = Palette.current();
+        for (int i = 0; i < shape.getRowCount(); i++) {
+            for (int j = 0; j < shape.getColumnCount(); j++) {
+                RectangleRenderer.styleRectangle(rectangles[i][j], palette.cell(shape.getValue(i, j)));
+            }
+        }
+        brickShape = shape;
+        brickPalette = palette;
+    }
+
+    private void styleGhost(BrickShape shape) {
+        Palette palette = Palette.current();
+        for (int i = 0; i < shape.getRowCount(); i++) {
+            for (int j = 0; j < shape.getColumnCount(); j++) {
+                RectangleRenderer.styleRectangle(ghostRectangles[i][j], palette.ghost(shape.getValue(i, j)));
+            }
+        }
+        ghostShape = shape;
+        ghostPalette = palette;
+    }
+
+    public void toggleGhost() {
+        showGhost = !showGhost;
+        if (ghostBrickPanel != null) {
+            ghostBrickPanel.setVisible(showGhost);
+        }
+    }
+
+    public boolean isGhostShown() {
+        return showGhost;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,243 @@
+package com.comp2042.view.GUI;
+
+import com.comp2042.Data.FrameSnapshot;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.constants.GameConstants;
+import com.comp2042.view.Palette;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.GridPane;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+import java.util.Arrays;
+
+/**
+ * Renders the well, falling brick, ghost and lava onto a single Canvas.
+ * Each color code is pre-rendered once into a cell sprite, so a redraw is a
+ * handful of image blits instead of restyling hundreds of Rectangle nodes.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class CanvasGameRenderer implements GameRenderer {
+
+    private static final int BRICK_SIZE = GameConstants.BRICK_SIZE;
+    /** Cell pitch, matching the one pixel gap of the GridPane layout. */
+    private static final int CELL_PITCH = BRICK_SIZE + 1;
+    private static final int HIDDEN_ROWS = 2;
+    private static final double ARC_SIZE = 9;
+    private static final Color LAVA_BACKGROUND = Color.rgb(40, 10, 10, 0.6);
+
+    private final GridPane gamePanel;
+    private final GridPane brickPanel;
+    private Canvas canvas;
+    private GraphicsContext graphics;
+    private Palette spritePalette;
+    private Image[] sprites = new Image[16];
+
+    private int[][] boardCodes;
+    private FrameSnapshot brick;
+    private int lavaDepth = 0;
+    private final LavaDescent lavaDescent = new LavaDescent();
+    private boolean lavaBackground = false;
+    private boolean showGhost = true;
+
+    /**
+     * Creates a canvas renderer on the given panels.
+     *
+     * @param gamePanel The GridPane that will host the canvas
+     * @param brickPanel The node brick panel, hidden while this renderer is active
+     */
+    public CanvasGameRenderer(GridPane gamePanel, GridPane brickPanel) {
+        this.gamePanel = gamePanel;
+        this.brickPanel = brickPanel;
+    }
+
+    @Override
+    public void initialize(int[][] boardMatrix, FrameSnapshot brick) {
+        int rows = boardMatrix.length;
+        int cols = boardMatrix[0].length;
+        boardCodes = new int[rows][cols];
+
+        canvas = new Canvas(cols * CELL_PITCH - 1, (rows - HIDDEN_ROWS) * CELL_PITCH - 1);
+        graphics = canvas.getGraphicsContext2D();
+        gamePanel.add(canvas, 0, 0);
+        brickPanel.setVisible(false);
+
+        this.brick = brick;
+        refreshBackground(boardMatrix);
+        redraw();
+    }
+
+    @Override
+    public void refreshBackground(int[][] board) {
+        boolean changed = false;
+        for (int i = HIDDEN_ROWS; i < board.length; i++) {
+            if (!Arrays.equals(board[i], boardCodes[i])) {
+                System.arraycopy(board[i], 0, boardCodes[i], 0, boardCodes[i].length);
+                changed = true;
+            }
+        }
+        if (changed) {
+            redraw();
+        }
+    }
+
+    @Override
+    public void refreshBrick(FrameSnapshot brick) {
+        if (brick == null) return;
+        this.brick = brick;
+        redraw();
+    }
+
+    @Override
+    public void updateLava(int lavaDepth) {
+        if (lavaDepth == this.lavaDepth) return;
+        this.lavaDepth = lavaDepth;
+        int lavaRows = Math.min(lavaDepth, boardCodes.length) - HIDDEN_ROWS;
+        if (lavaRows > 0) {
+            lavaDescent.setTarget(lavaRows * CELL_PITCH - 1);
+        } else {
+            lavaDescent.jumpTo(0);
+            redraw();
+        }
+    }
+
+    @Override
+    public void onFrame(double gameTicks) {
+        // Also repaint after a theme switch, even if nothing else moved
+        if (lavaDescent.advance(gameTicks) | spritePalette != Palette.current()) {
+            redraw();
+        }
+    }
+
+    @Override
+    public void setLavaBackground(boolean lavaActive) {
+        this.lavaBackground = lavaActive;
+        redraw();
+    }
+
+    @Override
+    public void toggleGhost() {
+        showGhost = !showGhost;
+        redraw();
+    }
+
+    @Override
+    public boolean isGhostShown() {
+        return showGhost;
+    }
+
+    /**
+     * Repaints the whole canvas: background, locked cells, lava, then the ghost and brick
+     * on top so the active piece stays visible inside the lava.
+     * Clearing the full canvas first lets JavaFX drop the previous frame's commands.
+     */
+    private void redraw() {
+        if (graphics == null) return;
+        if (spritePalette != Palette.current()) {
+            loadSprites(Palette.current());
+        }
+
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        if (lavaBackground) {
+            graphics.setFill(LAVA_BACKGROUND);
+            graphics.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        }
+
+        for (int i = HIDDEN_ROWS; i < boardCodes.length; i++) {
+            for (int j = 0; j < boardCodes[i].length; j++) {
+                if (boardCodes[i][j] != 0) {
+                    drawCell(spriteFor(boardCodes[i][j]), i, j);
+                }
+            }
+        }
+
+        double lavaHeight = lavaDescent.getHeight();
+        if (lavaHeight > 0) {
+            graphics.setFill(spritePalette.lava());
+            graphics.fillRoundRect(0, 0, canvas.getWidth(), lavaHeight, ARC_SIZE, ARC_SIZE);
+            graphics.setStroke(spritePalette.lavaGlow());
+            graphics.strokeRoundRect(0.5, 0.5, canvas.getWidth() - 1, lavaHeight - 1, ARC_SIZE, ARC_SIZE);
+        }
+
+        if (brick != null) {
+            if (showGhost) {
+                graphics.setGlobalAlpha(Palette.GHOST_OPACITY);
+                drawShape(brick.getShape(), brick.getGhostYPosition(), brick.getxPosition());
+                graphics.setGlobalAlpha(1.0);
+            }
+            drawShape(brick.getShape(), brick.getyPosition(), brick.getxPosition());
+        }
+    }
+
+    /**
+     * Draws the filled cells of a brick shape at the given board position.
+     *
+     * @param shape Brick rotation state
+     * @param row Board row of the shape's top edge
+     * @param col Board column of the shape's left edge
+     */
+    private void drawShape(BrickShape shape, int row, int col) {
+        for (int k = 0; k < shape.getCellCount(); k++) {
+            int cellRow = row + shape.getCellY(k);
+            if (cellRow >= HIDDEN_ROWS) {
+                drawCell(spriteFor(shape.getColorCode()), cellRow, col + shape.getCellX(k));
+            }
+        }
+    }
+
+    private void drawCell(Image sprite, int row, int col) {
+        graphics.drawImage(sprite, col * CELL_PITCH, (row - HIDDEN_ROWS) * CELL_PITCH);
+    }
+
+    /**
+     * Drops the cached sprites for a new palette.
+     * Cell sprites are then rendered again on first use.
+     *
+     * @param palette Palette to draw with
+     */
+    private void loadSprites(Palette palette) {
+        spritePalette = palette;
+        Arrays.fill(sprites, null);
+    }
+
+    /**
+     * Returns the cached sprite for a color code, rendering it on first use.
+     *
+     * @param colorCode The color code of the cell
+     * @return Pre-rendered cell image
+     */
+    private Image spriteFor(int colorCode) {
+        if (colorCode >= sprites.length) {
+            sprites = Arrays.copyOf(sprites, colorCode + 1);
+        }
+        Image sprite = sprites[colorCode];
+        if (sprite == null) {
+            sprite = renderSprite(spritePalette.cell(colorCode));
+            sprites[colorCode] = sprite;
+        }
+        return sprite;
+    }
+
+    /**
+     * Renders one rounded cell in the given paint to an image.
+     *
+     * @param paint Cell fill
+     * @return Snapshot of the cell with a transparent background
+     */
+    private static Image renderSprite(Paint paint) {
+        Canvas cell = new Canvas(BRICK_SIZE, BRICK_SIZE);
+        GraphicsContext gc = cell.getGraphicsContext2D();
+        gc.setFill(paint);
+        gc.fillRoundRect(0, 0, BRICK_SIZE, BRICK_SIZE, ARC_SIZE, ARC_SIZE);
+
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return cell.snapshot(parameters, null);
+    }
+}
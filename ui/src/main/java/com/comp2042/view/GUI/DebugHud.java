@@ -0,0 +1,186 @@
+package com.comp2042.view.GUI;
+
+import com.comp2042.view.GUI.FrameProfiler.Probe;
+import com.comp2042.view.GUI.FrameProfiler.Summary;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Pane;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Optional debug overlay showing frame timings from a {@link FrameProfiler}.
+ * While shown, the overlay text is refreshed twice a second and every refresh
+ * is appended as one CSV row to the profile log for offline comparison.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class DebugHud {
+
+    /** System property naming the CSV log file. */
+    public static final String LOG_PROPERTY = "cw2025.profile.log";
+    private static final long REFRESH_NANOS = 500_000_000L;
+    private static final String CSV_HEADER = "timestamp_ms,renderer,frames,fps,frame_p50_ms,frame_p95_ms,frame_p99_ms,"
+            + "engine_mean_ms,engine_p95_ms,render_mean_ms,render_p95_ms,layout_mean_ms,layout_p95_ms,alloc_mb_s";
+
+    private final FrameProfiler profiler;
+    private final Label label = new Label();
+    private final Path logFile;
+    private final String rendererName;
+    private Supplier<String> extraInfo;
+    private BufferedWriter log;
+    private long lastRefresh = -1;
+
+    /**
+     * Creates the overlay on the given pane, hidden until toggled.
+     *
+     * @param overlayPane Pane the overlay label is added to
+     * @param profiler Profiler supplying the timings
+     * @param rendererName Name of the active renderer, written to the log
+     */
+    public DebugHud(Pane overlayPane, FrameProfiler profiler, String rendererName) {
+        this.profiler = profiler;
+        this.rendererName = rendererName;
+        this.logFile = Paths.get(System.getProperty(LOG_PROPERTY, "frame-profile.csv"));
+
+        label.setStyle("-fx-background-color: rgba(0, 0, 0, 0.7); -fx-text-fill: #7CFC00;"
+                + " -fx-font-family: monospace; -fx-font-size: 11px; -fx-padding: 4;");
+        label.setManaged(false);
+        label.setMouseTransparent(true);
+        label.setVisible(false);
+        label.relocate(4, 4);
+        overlayPane.getChildren().add(label);
+    }
+
+    /**
+     * Shows or hides the overlay. Showing starts profiling and opens the log,
+     * hiding stops profiling and closes it.
+     */
+    public void toggle() {
+        boolean show = !label.isVisible();
+        label.setVisible(show);
+        profiler.setEnabled(show);
+        lastRefresh = -1;
+        if (show) {
+            label.setText("profiling...");
+            label.toFront();
+            openLog();
+        } else {
+            closeLog();
+        }
+    }
+
+    /**
+     * Sets a supplier of extra text shown under the timings, e.g. audio latency.
+     *
+     * @param extraInfo Supplier of one line of text, or null for none
+     */
+    public void setExtraInfo(Supplier<String> extraInfo) {
+        this.extraInfo = extraInfo;
+    }
+
+    public boolean isShown() {
+        return label.isVisible();
+    }
+
+    /**
+     * Ends the profiler frame and refreshes the overlay when due.
+     * Called once per pulse from the game timer.
+     *
+     * @param now Frame timestamp in nanoseconds
+     */
+    public void onFrame(long now) {
+        if (!label.isVisible()) return;
+        profiler.endFrame(now);
+
+        if (lastRefresh < 0) {
+            lastRefresh = now;
+        } else if (now - lastRefresh >= REFRESH_NANOS) {
+            lastRefresh = now;
+            Summary summary = profiler.summarize(now);
+            label.setText(extraInfo == null ? format(summary) : format(summary) + "\n" + extraInfo.get());
+            writeLog(summary);
+        }
+    }
+
+    /**
+     * Closes the log if open. Called when the game view is left.
+     */
+    public void close() {
+        closeLog();
+    }
+
+    private String format(Summary s) {
+        return String.format(Locale.ROOT,
+                "FPS %5.1f   frames %d%n"
+                        + "frame  p50 %5.2f  p95 %5.2f  p99 %5.2f ms%n"
+                        + "engine avg %5.3f  p95 %5.3f ms%n"
+                        + "render avg %5.3f  p95 %5.3f ms%n"
+                        + "layout avg %5.3f  p95 %5.3f ms%n"
+                        + "alloc  %s",
+                s.getFps(), s.getFrameCount(),
+                ms(s.getFrameTime(50)), ms(s.getFrameTime(95)), ms(s.getFrameTime(99)),
+                ms(s.getProbeMean(Probe.ENGINE)), ms(s.getProbeTime(Probe.ENGINE, 95)),
+                ms(s.getProbeMean(Probe.RENDER)), ms(s.getProbeTime(Probe.RENDER, 95)),
+                ms(s.getProbeMean(Probe.LAYOUT)), ms(s.getProbeTime(Probe.LAYOUT, 95)),
+                s.getAllocationRate() < 0 ? "n/a"
+                        : String.format(Locale.ROOT, "%.2f MB/s", s.getAllocationRate() / 1e6));
+    }
+
+    private void openLog() {
+        try {
+            boolean isNew = !Files.exists(logFile) || Files.size(logFile) == 0;
+            log = Files.newBufferedWriter(logFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            if (isNew) {
+                log.write(CSV_HEADER);
+                log.newLine();
+            }
+        } catch (IOException e) {
+            System.err.println("Cannot open profile log " + logFile + ": " + e.getMessage());
+            log = null;
+        }
+    }
+
+    private void writeLog(Summary s) {
+        if (log == null) return;
+        try {
+            log.write(String.format(Locale.ROOT,
+                    "%d,%s,%d,%.1f,%.3f,%.3f,%.3f,%.4f,%.4f,%.4f,%.4f,%.4f,%.4f,%.3f",
+                    System.currentTimeMillis(), rendererName, s.getFrameCount(), s.getFps(),
+                    ms(s.getFrameTime(50)), ms(s.getFrameTime(95)), ms(s.getFrameTime(99)),
+                    ms(s.getProbeMean(Probe.ENGINE)), ms(s.getProbeTime(Probe.ENGINE, 95)),
+                    ms(s.getProbeMean(Probe.RENDER)), ms(s.getProbeTime(Probe.RENDER, 95)),
+                    ms(s.getProbeMean(Probe.LAYOUT)), ms(s.getProbeTime(Probe.LAYOUT, 95)),
+                    s.getAllocationRate() / 1e6));
+            log.newLine();
+            log.flush();
+        } catch (IOException e) {
+            System.err.println("Error writing profile log: " + e.getMessage());
+            closeLog();
+        }
+    }
+
+    private void closeLog() {
+        if (log == null) return;
+        try {
+            log.close();
+        } catch (IOException e) {
+            System.err.println("Error closing profile log: " + e.getMessage());
+        }
+        log = null;
+    }
+
+    private static double ms(double nanos) {
+        return nanos / 1e6;
+    }
+}
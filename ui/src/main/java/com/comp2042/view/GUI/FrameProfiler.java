@@ -0,0 +1,283 @@
+package com.comp2042.view.GUI;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Collects per-frame timings for the debug HUD.
+ * Probes are opened and closed around engine calls, renderer calls and the
+ * JavaFX layout/CSS pass. Nested probes record exclusive time, so a board
+ * redraw triggered from inside an engine call counts as render, not engine.
+ * The last {@value #WINDOW} frames are kept for percentiles. While disabled,
+ * probes return immediately.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class FrameProfiler {
+
+    /** Number of frames kept for percentiles. */
+    public static final int WINDOW = 240;
+    private static final int MAX_DEPTH = 8;
+
+    /**
+     * Kinds of work measured per frame.
+     */
+    public enum Probe {
+        /** Brick movement, line clears and scoring through the InputEventListener. */
+        ENGINE,
+        /** Board, brick and lava drawing. */
+        RENDER,
+        /** JavaFX CSS and layout pass of the scene. */
+        LAYOUT
+    }
+
+    private static final Probe[] PROBES = Probe.values();
+
+    private final LongSupplier clock;
+    private final LongSupplier allocatedBytes;
+    private final long[] frameIntervals = new long[WINDOW];
+    private final long[][] probeSamples = new long[PROBES.length][WINDOW];
+    private final long[] pending = new long[PROBES.length];
+    private int sampleCount;
+    private int next;
+    private long lastFrameTime = -1;
+
+    private final Probe[] stackProbe = new Probe[MAX_DEPTH];
+    private final long[] stackStart = new long[MAX_DEPTH];
+    private final long[] stackChild = new long[MAX_DEPTH];
+    private int depth;
+
+    private long windowStartTime = -1;
+    private long windowStartBytes;
+    private double allocationRate;
+
+    private boolean enabled;
+
+    /**
+     * Creates a profiler on {@link System#nanoTime()} that samples allocations
+     * of the calling thread, which should be the JavaFX application thread.
+     */
+    public FrameProfiler() {
+        this(System::nanoTime, threadAllocationCounter());
+    }
+
+    /**
+     * Creates a profiler with the given clock and allocation counter.
+     *
+     * @param clock Nanosecond clock
+     * @param allocatedBytes Bytes allocated so far, or null if not supported
+     */
+    FrameProfiler(LongSupplier clock, LongSupplier allocatedBytes) {
+        this.clock = clock;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * Turns measuring on or off. Switching clears all samples.
+     *
+     * @param enabled true to start measuring
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        reset();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Opens a probe. Must be closed by {@link #end(Probe)} in the same frame.
+     *
+     * @param probe Kind of work starting now
+     */
+    public void begin(Probe probe) {
+        if (!enabled || depth == MAX_DEPTH) return;
+        stackProbe[depth] = probe;
+        stackStart[depth] = clock.getAsLong();
+        stackChild[depth] = 0;
+        depth++;
+    }
+
+    /**
+     * Closes the innermost open probe and adds its exclusive time to the frame.
+     *
+     * @param probe Kind of work, must match the innermost {@link #begin(Probe)}
+     */
+    public void end(Probe probe) {
+        if (!enabled || depth == 0 || stackProbe[depth - 1] != probe) return;
+        depth--;
+        long elapsed = clock.getAsLong() - stackStart[depth];
+        pending[probe.ordinal()] += elapsed - stackChild[depth];
+        if (depth > 0) {
+            stackChild[depth - 1] += elapsed;
+        }
+    }
+
+    /**
+     * Closes the current frame, storing its interval and probe totals.
+     * Called once per pulse with the pulse timestamp.
+     *
+     * @param now Frame timestamp in nanoseconds
+     */
+    public void endFrame(long now) {
+        if (!enabled) return;
+        if (lastFrameTime < 0) {
+            lastFrameTime = now;
+            startAllocationWindow(now);
+            Arrays.fill(pending, 0);
+            return;
+        }
+
+        frameIntervals[next] = now - lastFrameTime;
+        for (int p = 0; p < PROBES.length; p++) {
+            probeSamples[p][next] = pending[p];
+            pending[p] = 0;
+        }
+        lastFrameTime = now;
+        next = (next + 1) % WINDOW;
+        sampleCount = Math.min(sampleCount + 1, WINDOW);
+    }
+
+    /**
+     * Summarises the frames in the window and restarts the allocation rate window.
+     *
+     * @param now Current timestamp in nanoseconds
+     * @return Summary of the recorded frames
+     */
+    public Summary summarize(long now) {
+        if (allocatedBytes != null && windowStartTime >= 0 && now > windowStartTime) {
+            long bytes = allocatedBytes.getAsLong() - windowStartBytes;
+            allocationRate = bytes * 1e9 / (now - windowStartTime);
+        }
+        startAllocationWindow(now);
+
+        long[] intervals = sortedWindow(frameIntervals);
+        long[][] probes = new long[PROBES.length][];
+        for (int p = 0; p < PROBES.length; p++) {
+            probes[p] = sortedWindow(probeSamples[p]);
+        }
+        return new Summary(intervals, probes, allocatedBytes != null ? allocationRate : -1);
+    }
+
+    /**
+     * Returns the value at the given percentile of a sorted array, nearest-rank.
+     *
+     * @param sorted Ascending samples
+     * @param percentile Percentile in the range 0 to 100
+     * @return The sample at that rank, or 0 when empty
+     */
+    static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    private long[] sortedWindow(long[] ring) {
+        long[] copy = Arrays.copyOf(ring, sampleCount);
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    private void startAllocationWindow(long now) {
+        windowStartTime = now;
+        windowStartBytes = allocatedBytes != null ? allocatedBytes.getAsLong() : 0;
+    }
+
+    private void reset() {
+        sampleCount = 0;
+        next = 0;
+        depth = 0;
+        lastFrameTime = -1;
+        windowStartTime = -1;
+        allocationRate = 0;
+        Arrays.fill(pending, 0);
+    }
+
+    /**
+     * Returns a counter of bytes allocated by the calling thread, if the JVM supports it.
+     */
+    private static LongSupplier threadAllocationCounter() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+            if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                Thread owner = Thread.currentThread();
+                return () -> threads.getThreadAllocatedBytes(owner.threadId());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Frame statistics over the profiler window. Times are in nanoseconds.
+     */
+    public static final class Summary {
+        private final long[] intervals;
+        private final long[][] probes;
+        private final double allocationRate;
+
+        private Summary(long[] intervals, long[][] probes, double allocationRate) {
+            this.intervals = intervals;
+            this.probes = probes;
+            this.allocationRate = allocationRate;
+        }
+
+        /**
+         * @return Number of frames summarised
+         */
+        public int getFrameCount() {
+            return intervals.length;
+        }
+
+        /**
+         * @return Frames per second from the mean frame interval, 0 if no frames
+         */
+        public double getFps() {
+            if (intervals.length == 0) return 0;
+            long total = 0;
+            for (long interval : intervals) total += interval;
+            return total == 0 ? 0 : intervals.length * 1e9 / total;
+        }
+
+        /**
+         * @param percentile Percentile in the range 0 to 100
+         * @return Frame interval at that percentile
+         */
+        public long getFrameTime(double percentile) {
+            return percentile(intervals, percentile);
+        }
+
+        /**
+         * @param probe Kind of work
+         * @param percentile Percentile in the range 0 to 100
+         * @return Per-frame time of that probe at the percentile
+         */
+        public long getProbeTime(Probe probe, double percentile) {
+            return percentile(probes[probe.ordinal()], percentile);
+        }
+
+        /**
+         * @param probe Kind of work
+         * @return Mean per-frame time of that probe
+         */
+        public double getProbeMean(Probe probe) {
+            long[] samples = probes[probe.ordinal()];
+            if (samples.length == 0) return 0;
+            long total = 0;
+            for (long sample : samples) total += sample;
+            return (double) total / samples.length;
+        }
+
+        /**
+         * @return Bytes allocated per second on the profiled thread, or -1 if not supported
+         */
+        public double getAllocationRate() {
+            return allocationRate;
+        }
+    }
+}
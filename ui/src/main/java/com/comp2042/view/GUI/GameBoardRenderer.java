@@ -1,5 +1,6 @@
 package com.comp2042.view.GUI;
 
+import com.comp2042.view.Palette;
 import com.comp2042.view.RectangleRenderer;
 import javafx.scene.layout.GridPane;
 import javafx.scene.shape.Rectangle;
@@ -8,6 +9,9 @@ import com.comp2042.constants.GameConstants;
 /**
  * Handles rendering and updating the game board background.
  * Manages the display matrix of rectangles representing the static game state.
+ * Remembers the color code last drawn in each cell so a refresh only restyles
+ * the cells that actually changed, and the palette they were drawn with so a
+ * theme switch restyles every cell once.
  *
  * @author Tooba Nauman
  * @version 1.0
@@ -17,6 +21,8 @@ public class GameBoardRenderer {
 
     private static final int BRICK_SIZE = GameConstants.BRICK_SIZE;
     private Rectangle[][] displayMatrix;
+    private int[][] renderedCodes;
+    private Palette renderedPalette;
     private final GridPane gamePanel;
 
     /**
@@ -36,6 +42,8 @@ public class GameBoardRenderer {
      */
     public void initializeBoard(int[][] boardMatrix) {
         displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
+        renderedCodes = new int[boardMatrix.length][boardMatrix[0].length];
+        renderedPalette = Palette.current();
         for (int i = 2; i < boardMatrix.length; i++) {
             for (int j = 0; j < boardMatrix[i].length; j++) {
                 Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
@@ -48,26 +56,48 @@ public class GameBoardRenderer {
 
     /**
      * Refreshes the game board display based on current board state.
-     * Updates colors of all rectangles to match the board matrix.
+     * Only restyles rectangles whose color code differs from the last refresh,
+     * or all of them if the palette was switched since.
      *
      * @param board Current game board matrix (2D array)
+     * @return Number of cells that were restyled
      */
-    public void refreshGameBackground(int[][] board) {
+    public int refreshGameBackground(int[][] board) {
+        int changed = refreshPalette();
+        Palette palette = renderedPalette;
         for (int i = 2; i < board.length; i++) {
-            for (int j = 0; j < board[i].length; j++) {
-                styleRectangle(board[i][j], displayMatrix[i][j]);
+            int[] row = board[i];
+            int[] rendered = renderedCodes[i];
+            for (int j = 0; j < row.length; j++) {
+                if (rendered[j] != row[j]) {
+                    rendered[j] = row[j];
+                    RectangleRenderer.styleRectangle(displayMatrix[i][j], palette.cell(row[j]));
+                    changed++;
+                }
             }
         }
+        return changed;
     }
 
     /**
-     * Applies color and styling to a rectangle based on color code.
+     * Restyles every cell from its last drawn color code if the palette was switched
+     * since the last refresh. Cheap enough to call every frame.
      *
-     * @param colorCode The color code to apply
-     * @param rectangle The rectangle to style
+     * @return Number of cells that were restyled
      */
-    private void styleRectangle(int colorCode, Rectangle rectangle) {
-        RectangleRenderer.styleRectangle(rectangle, colorCode);
+    public int refreshPalette() {
+        Palette palette = Palette.current();
+        if (palette == renderedPalette) return 0;
+        renderedPalette = palette;
+
+        int changed = 0;
+        for (int i = 2; i < renderedCodes.length; i++) {
+            for (int j = 0; j < renderedCodes[i].length; j++) {
+                RectangleRenderer.styleRectangle(displayMatrix[i][j], palette.cell(renderedCodes[i][j]));
+                changed++;
+            }
+        }
+        return changed;
     }
 
     /**
@@ -3,12 +3,14 @@ package com.comp2042.view.GUI;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.event.EventHandler;
-import com.comp2042.controller.InputEventListener;
 
 /**
  * Handles keyboard input for gameplay controls.
- * Processes left, right, up (rotate), and G (ghost toggle) keys.
+ * Processes left, right, up (rotate), and G (ghost toggle) keys,
+ * plus F3 for the debug HUD.
  * DOWN and SPACE are handled separately in GuiController.
+ * Held left/right keys repeat through an {@link AutoShiftRepeater} driven by the
+ * game loop, and the shifts of one frame reach the board as a single batch.
  *
  * @author Tooba Nauman
  * @version 1.0
@@ -16,19 +18,17 @@ import com.comp2042.controller.InputEventListener;
  */
 public class GameInputHandler implements EventHandler<KeyEvent> {
 
-    private final InputEventListener eventListener;
     private final GuiController guiController;
+    private final AutoShiftRepeater autoShift = new AutoShiftRepeater();
     private boolean isPaused;
     private boolean isGameOver;
 
     /**
      * Creates a GameInputHandler.
      *
-     * @param eventListener The InputEventListener (GameController)
      * @param guiController The GuiController for callback methods
      */
-    public GameInputHandler(InputEventListener eventListener, GuiController guiController) {
-        this.eventListener = eventListener;
+    public GameInputHandler(GuiController guiController) {
         this.guiController = guiController;
         this.isPaused = false;
         this.isGameOver = false;
@@ -50,11 +50,15 @@ public class GameInputHandler implements EventHandler<KeyEvent> {
         KeyCode code = keyEvent.getCode();
 
         if (code == KeyCode.LEFT || code == KeyCode.A) {
-            guiController.handleLeftMove();
+            if (autoShift.press(-1)) {
+                flushShift();
+            }
             keyEvent.consume();
         }
         else if (code == KeyCode.RIGHT || code == KeyCode.D) {
-            guiController.handleRightMove();
+            if (autoShift.press(1)) {
+                flushShift();
+            }
             keyEvent.consume();
         }
         else if (code == KeyCode.UP || code == KeyCode.W) {
@@ -68,7 +72,7 @@ public class GameInputHandler implements EventHandler<KeyEvent> {
     }
 
     /**
-     * Handles global input (pause, new game).
+     * Handles global input (pause, new game, debug HUD).
      */
     private void handleGlobalInput(KeyEvent keyEvent) {
         KeyCode code = keyEvent.getCode();
@@ -81,13 +85,64 @@ public class GameInputHandler implements EventHandler<KeyEvent> {
             guiController.handleTogglePause();
             keyEvent.consume();
         }
+        else if (code == KeyCode.F3) {
+            guiController.handleDebugHudToggle();
+            keyEvent.consume();
+        }
+    }
+
+    /**
+     * Handles key releases, ending auto shift for the released direction.
+     *
+     * @param keyEvent The KEY_RELEASED event
+     */
+    public void handleRelease(KeyEvent keyEvent) {
+        KeyCode code = keyEvent.getCode();
+
+        if (code == KeyCode.LEFT || code == KeyCode.A) {
+            autoShift.release(-1);
+            keyEvent.consume();
+        }
+        else if (code == KeyCode.RIGHT || code == KeyCode.D) {
+            autoShift.release(1);
+            keyEvent.consume();
+        }
+    }
+
+    /**
+     * Advances held-key repeats by one game tick. Called from the game loop.
+     */
+    public void onTick() {
+        if (!isPaused && !isGameOver) {
+            autoShift.tick();
+        }
+    }
+
+    /**
+     * Applies the shifts queued since the last flush as one move and one render.
+     * Called once per frame after the game ticks.
+     */
+    public void flushShift() {
+        int shift = autoShift.drainShift();
+        if (shift != 0 && !isPaused && !isGameOver) {
+            guiController.handleShift(shift);
+        }
+    }
+
+    /**
+     * Releases any held direction, e.g. when the board loses focus.
+     */
+    public void releaseAll() {
+        autoShift.reset();
     }
 
     public void setPaused(boolean paused) {
         this.isPaused = paused;
+        autoShift.reset();
     }
 
     public void setGameOver(boolean gameOver) {
         this.isGameOver = gameOver;
+        autoShift.reset();
     }
 }
\ No newline at end of file
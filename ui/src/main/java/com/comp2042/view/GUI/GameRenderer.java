@@ -0,0 +1,90 @@
+package com.comp2042.view.GUI;
+
+import com.comp2042.Data.FrameSnapshot;
+import javafx.scene.layout.GridPane;
+
+/**
+ * Draws the well, the falling brick, its ghost and the lava rows.
+ * Lets the game view switch between the node-per-cell renderer and the
+ * single-canvas renderer without changing the controller logic.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public interface GameRenderer {
+
+    /** System property that selects the renderer: {@code nodes} or {@code canvas}. */
+    String RENDERER_PROPERTY = "cw2025.renderer";
+
+    /**
+     * Builds the display for the given board and first brick.
+     *
+     * @param boardMatrix The initial game board matrix
+     * @param brick Snapshot of the initial brick
+     */
+    void initialize(int[][] boardMatrix, FrameSnapshot brick);
+
+    /**
+     * Redraws the locked cells of the board.
+     *
+     * @param board Current game board matrix
+     */
+    void refreshBackground(int[][] board);
+
+    /**
+     * Redraws the falling brick and its ghost.
+     *
+     * @param brick Current frame snapshot, ignored when null
+     */
+    void refreshBrick(FrameSnapshot brick);
+
+    /**
+     * Draws the lava covering the given number of rows from the top of the board.
+     *
+     * @param lavaDepth Number of board rows covered by lava, 0 for none
+     */
+    void updateLava(int lavaDepth);
+
+    /**
+     * Advances animations that move continuously between game ticks, such as the lava descent,
+     * and repaints with the new colors after a theme switch. Called once per frame.
+     *
+     * @param gameTicks Game ticks run so far plus the loop's interpolation factor
+     */
+    void onFrame(double gameTicks);
+
+    /**
+     * Switches the lava atmosphere background on or off.
+     *
+     * @param lavaActive true to apply the lava background
+     */
+    void setLavaBackground(boolean lavaActive);
+
+    /**
+     * Shows or hides the ghost brick.
+     */
+    void toggleGhost();
+
+    /**
+     * Checks whether the ghost brick is shown.
+     *
+     * @return true if the ghost brick is visible
+     */
+    boolean isGhostShown();
+
+    /**
+     * Creates the renderer named by the {@value #RENDERER_PROPERTY} system property.
+     * Defaults to the node renderer.
+     *
+     * @param gamePanel The GridPane that hosts the board
+     * @param brickPanel The GridPane used for the falling brick
+     * @return The selected renderer
+     */
+    static GameRenderer create(GridPane gamePanel, GridPane brickPanel) {
+        if ("canvas".equalsIgnoreCase(System.getProperty(RENDERER_PROPERTY, "nodes"))) {
+            return new CanvasGameRenderer(gamePanel, brickPanel);
+        }
+        return new NodeGameRenderer(gamePanel, brickPanel);
+    }
+}
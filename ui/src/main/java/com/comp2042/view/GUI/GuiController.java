@@ -2,16 +2,15 @@ package com.comp2042.view.GUI;
 
 import com.comp2042.*;
 import com.comp2042.Data.DownData;
-import com.comp2042.Data.ViewData;
+import com.comp2042.Data.FrameSnapshot;
 import com.comp2042.controller.GameController;
 import com.comp2042.controller.InputEventListener;
-import com.comp2042.model.scoring.HighScoreManager;
+import com.comp2042.constants.GameConstants;
+import com.comp2042.model.game.FixedTimestepLoop;
 import com.comp2042.view.*;
-import javafx.animation.KeyFrame;
 import javafx.animation.PauseTransition;
-import javafx.animation.Timeline;
 import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -32,6 +31,7 @@ import com.comp2042.controller.MenuController;
 import com.comp2042.utils.SoundManager;
 
 import java.net.URL;
+import java.util.Locale;
 import java.util.ResourceBundle;
 
 /**
@@ -41,9 +41,7 @@ import java.util.ResourceBundle;
  * @author Tooba Nauman
  * @version 2.0
  * @since 2025
- *  @see BrickRenderer
- *  @see GameBoardRenderer
- *  @see LavaDisplayManager
+ *  @see GameRenderer
  *  @see TargetChallengeUI
  *  @see GameInputHandler
  */
@@ -77,7 +75,7 @@ public class GuiController implements Initializable {
 
     /**
      * Label displaying the current score.
-     * Bound to Score model's scoreProperty for automatic updates.
+     * Bound to the score through ScorePropertyAdapter for automatic updates.
      */
     @FXML
     private Label scoreLabel;
@@ -101,22 +99,10 @@ public class GuiController implements Initializable {
 
     // Specialized components
     /**
-     * Manages rendering and updates of the static game board background.
-     * Handles the display matrix of rectangles representing placed blocks.
+     * Draws the board, the current brick with its ghost, and lava rows.
+     * Node-per-cell or single-canvas, chosen by the cw2025.renderer system property.
      */
-    private GameBoardRenderer boardRenderer;
-
-    /**
-     * Manages rendering of the current brick and ghost piece.
-     * Handles position updates, opacity, and ghost piece toggle.
-     */
-    private BrickRenderer brickRenderer;
-
-    /**
-     * Manages visual display of lava in Lava Survival mode (Level 2).
-     * Controls lava row rendering and background atmosphere effects.
-     */
-    private LavaDisplayManager lavaDisplayManager;
+    private GameRenderer renderer;
 
     /**
      * Manages UI display for Target Challenge mode (Level 3).
@@ -130,26 +116,38 @@ public class GuiController implements Initializable {
      */
     private GameInputHandler inputHandler;
 
+    /**
+     * Frame-time probes around engine calls, rendering and the scene layout pass.
+     * Only measures while the debug HUD is shown.
+     */
+    private final FrameProfiler profiler = new FrameProfiler();
+
+    /**
+     * Debug overlay with FPS and frame timings, toggled with F3.
+     */
+    private DebugHud debugHud;
+
     // Game state
     private InputEventListener eventListener;
-    private Timeline timeLine;
     private GameTimer gameTimer;
     private SoundManager soundManager;
     private PauseMenu pauseMenu;
-    private LevelUpNotification levelUpNotification;
+    private NotificationLayer notificationLayer;
+
+    /** Column of the brick as last drawn, so a blocked shift makes no move sound. */
+    private int renderedBrickX;
 
     private final BooleanProperty isPause = new SimpleBooleanProperty(false);
     private final BooleanProperty isGameOver = new SimpleBooleanProperty(false);
 
     private Stage stage;
     private MenuController menuController;
-    private HighScoreManager highScoreManager = new HighScoreManager();
 
 
 
     /**
      * Initializes the GUI controller when FXML is loaded.
-     * Sets up fonts, audio, pause menu, level-up notification, and Target Challenge UI.
+     * Sets up fonts, audio, pause menu, notification layer, and Target Challenge UI.
      * Configures initial visibility states and event handlers.
      *
      * @param location The location used to resolve relative paths for the root object, or null
@@ -159,9 +157,11 @@ public class GuiController implements Initializable {
     public void initialize(URL location, ResourceBundle resources) {
         Font.loadFont(getClass().getClassLoader().getResource("digital.ttf").toExternalForm(), 38);
 
-        soundManager = new SoundManager();
+        soundManager = SoundManager.getDefault();
         soundManager.startBackgroundMusic();
 
+        notificationLayer = new NotificationLayer(groupNotification);
+
         pauseMenu = new PauseMenu();
         pauseMenu.setVisible(false);
         pauseMenu.setManaged(false);  // This prevents layout space allocation
@@ -175,13 +175,6 @@ public class GuiController implements Initializable {
         });
         pauseMenu.getQuitButton().setOnAction(e -> System.exit(0));
 
-        levelUpNotification = new LevelUpNotification("Next Level");
-        levelUpNotification.setPrefSize(300, 510);
-        levelUpNotification.setLayoutX(0);
-        levelUpNotification.setLayoutY(0);
-        levelUpNotification.setVisible(false);
-        levelUpNotification.setManaged(false);  // This prevents layout space allocation
-
         targetChallengeUI = new TargetChallengeUI(
                 targetChallengeContainer,
                 missionLabel,
@@ -210,37 +203,25 @@ public class GuiController implements Initializable {
 
     /**
      * Initializes the game view with board matrix and brick data.
-     * Creates specialized rendering managers, sets up timelines, and configures keyboard input.
+     * Creates specialized rendering managers, starts the game timer, and configures keyboard input.
      * Called once when game starts from GameController constructor.
      *
      * @param boardMatrix The initial 2D game board matrix
-     * @param brick The initial brick view data with position and shape
+     * @param brick Snapshot of the initial brick with position and shape
+     * @param gameLoop Game loop that is also the board's clock; driven by the game timer
      */
-    public void initGameView(int[][] boardMatrix, ViewData brick) {
-        boardRenderer = new GameBoardRenderer(gamePanel);
-        boardRenderer.initializeBoard(boardMatrix);
-
-        brickRenderer = new BrickRenderer(gamePanel, brickPanel,
-                (javafx.scene.layout.Pane) gamePanel.getParent());
-        brickRenderer.initializeBrickDisplay(brick.getBrickData());
-
-        lavaDisplayManager = new LavaDisplayManager(gamePanel, boardRenderer.getDisplayMatrix());
-
-        brickPanel.setLayoutX(gamePanel.getLayoutX() + brick.getxPosition() * brickPanel.getVgap()
-                + brick.getxPosition() * BRICK_SIZE);
-        brickPanel.setLayoutY(-42 + gamePanel.getLayoutY() + brick.getyPosition() * brickPanel.getHgap()
-                + brick.getyPosition() * BRICK_SIZE);
-
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(400),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
-
-        // Get the parent pane once
-        javafx.scene.layout.Pane parentPane = (javafx.scene.layout.Pane) gamePanel.getParent();
-
+    public void initGameView(int[][] boardMatrix, FrameSnapshot brick, FixedTimestepLoop gameLoop) {
+        renderer = GameRenderer.create(gamePanel, brickPanel);
+        renderer.initialize(boardMatrix, brick);
+        renderedBrickX = brick.getxPosition();
+
+        debugHud = new DebugHud((javafx.scene.layout.Pane) brickPanel.getParent(), profiler,
+                System.getProperty(GameRenderer.RENDERER_PROPERTY, "nodes"));
+        debugHud.setExtraInfo(() -> String.format(Locale.ROOT, "sfx    avg %5.2f  max %5.2f ms (%d)  voices %d",
+                soundManager.getEffects().getMeanLatencyMillis(), soundManager.getEffects().getMaxLatencyMillis(),
+                soundManager.getEffects().getLatencyCount(), soundManager.getMixer().getActiveVoices()));
+        gamePanel.getScene().addPreLayoutPulseListener(() -> profiler.begin(FrameProfiler.Probe.LAYOUT));
+        gamePanel.getScene().addPostLayoutPulseListener(() -> profiler.end(FrameProfiler.Probe.LAYOUT));
 
         // Remove any existing pause menu from scene graph
         if (pauseMenu.getParent() != null) {
@@ -272,14 +253,17 @@ public class GuiController implements Initializable {
         // Store reference to overlay for toggling
         pauseMenu.setUserData(pauseOverlay); // Store overlay reference
 
-        // Add level up notification
-        levelUpNotification.setVisible(false);
-        levelUpNotification.setManaged(false);
-        if (!parentPane.getChildren().contains(levelUpNotification)) {
-            parentPane.getChildren().add(levelUpNotification);
-        }
-
-        gameTimer = new GameTimer(400, () -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD)));
+        gameTimer = new GameTimer(gameLoop, GameConstants.DEFAULT_FALL_SPEED_MS,
+                () -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD)));
+        gameTimer.setTickHandler(inputHandler::onTick);
+        gameTimer.setFrameHandler((now, alpha) -> {
+            inputHandler.flushShift();
+            profiler.begin(FrameProfiler.Probe.RENDER);
+            renderer.onFrame(gameLoop.getTicks() + alpha);
+            profiler.end(FrameProfiler.Probe.RENDER);
+            targetChallengeUI.onFrame(now);
+            debugHud.onFrame(now);
+        });
         gameTimer.start();
     }
 
@@ -292,20 +276,37 @@ public class GuiController implements Initializable {
      */
     private void moveDown(MoveEvent event) {
         if (!isPause.getValue()) {
+            profiler.begin(FrameProfiler.Probe.ENGINE);
             DownData downData = eventListener.onDownEvent(event);
+            profiler.end(FrameProfiler.Probe.ENGINE);
+            showClearBonus(downData);
+            renderBrick(downData.getFrameSnapshot());
+        }
+        gamePanel.requestFocus();
+    }
 
-            if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
-                soundManager.playLineClear();
-                NotificationPanel notificationPanel = new NotificationPanel(
-                        "+" + downData.getClearRow().getScoreBonus()
-                );
-                groupNotification.getChildren().add(notificationPanel);
-                notificationPanel.showScore(groupNotification.getChildren());
-            }
+    /**
+     * Redraws the falling brick inside a render probe.
+     *
+     * @param brick Current frame snapshot
+     */
+    private void renderBrick(FrameSnapshot brick) {
+        profiler.begin(FrameProfiler.Probe.RENDER);
+        renderer.refreshBrick(brick);
+        renderedBrickX = brick.getxPosition();
+        profiler.end(FrameProfiler.Probe.RENDER);
+    }
 
-            brickRenderer.refreshBrick(downData.getViewData());
+    /**
+     * Plays the line clear sound and shows the score bonus if the move cleared rows.
+     *
+     * @param downData Result of a soft or hard drop
+     */
+    private void showClearBonus(DownData downData) {
+        if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
+            soundManager.playLineClear();
+            notificationLayer.showScore("+" + downData.getClearRow().getScoreBonus());
         }
-        gamePanel.requestFocus();
     }
 
     /**
@@ -321,7 +322,7 @@ public class GuiController implements Initializable {
             targetChallengeUI.setGameController((GameController) eventListener);
         }
 
-        inputHandler = new GameInputHandler(eventListener, this);
+        inputHandler = new GameInputHandler(this);
 
         // Set up keyboard handling
         gamePanel.setOnKeyPressed(keyEvent -> {
@@ -346,52 +347,47 @@ public class GuiController implements Initializable {
                 inputHandler.handle(keyEvent);
             }
         });
+        gamePanel.setOnKeyReleased(inputHandler::handleRelease);
+        gamePanel.focusedProperty().addListener((observable, wasFocused, focused) -> {
+            if (!focused) {
+                inputHandler.releaseAll();
+            }
+        });
     }
 
     /**
      * Executes hard drop - instantly moves brick to ghost piece position.
-     * Keeps moving down until reaching the calculated landing position.
+     * The brick jumps to its landing row and locks in a single engine step.
      * Plays drop sound effect on completion.
      */
     private void hardDrop() {
-        // Get current view data to find ghost position
-        ViewData currentView = eventListener.onDownEvent(
-                new MoveEvent(EventType.DOWN, EventSource.USER)
-        ).getViewData();
-
-        if (currentView != null && currentView.getGhostPosition() != null) {
-            // Keep moving down until we reach ghost position
-            while (true) {
-                DownData downData = eventListener.onDownEvent(
-                        new MoveEvent(EventType.DOWN, EventSource.USER)
-                );
-
-                if (downData.getClearRow() != null) {
-                    // Brick has landed - line clear occurred
-                    brickRenderer.refreshBrick(downData.getViewData());
-                    break;
-                }
-
-                // Check if we can't move anymore
-                if (!eventListener.getBoard().moveBrickDown()) {
-                    break;
-                }
-            }
-        }
+        profiler.begin(FrameProfiler.Probe.ENGINE);
+        DownData downData = eventListener.onHardDropEvent(new MoveEvent(EventType.DOWN, EventSource.USER));
+        profiler.end(FrameProfiler.Probe.ENGINE);
+        showClearBonus(downData);
+        renderBrick(downData.getFrameSnapshot());
 
         soundManager.playDrop();
         gamePanel.requestFocus();
     }
 
     // Public methods for GameInputHandler callbacks
-    public void handleLeftMove() {
-        ViewData result = eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
-        brickRenderer.refreshBrick(result);
-    }
-
-    public void handleRightMove() {
-        ViewData result = eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER));
-        brickRenderer.refreshBrick(result);
+    /**
+     * Handles a batch of horizontal moves from GameInputHandler.
+     * Moves the brick up to the given number of columns and renders once.
+     * The move sound only plays if the brick actually moved.
+     *
+     * @param columns Columns to move, negative for left
+     */
+    public void handleShift(int columns) {
+        profiler.begin(FrameProfiler.Probe.ENGINE);
+        FrameSnapshot result = eventListener.onShiftEvent(
+                new MoveEvent(columns < 0 ? EventType.LEFT : EventType.RIGHT, EventSource.USER), columns);
+        profiler.end(FrameProfiler.Probe.ENGINE);
+        if (result.getxPosition() != renderedBrickX) {
+            soundManager.playMove();
+        }
+        renderBrick(result);
     }
 
     /**
@@ -399,13 +395,24 @@ public class GuiController implements Initializable {
      * Rotates brick counter-clockwise, plays sound, and updates display.
      */
     public void handleRotate() {
-        ViewData result = eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER));
+        profiler.begin(FrameProfiler.Probe.ENGINE);
+        FrameSnapshot result = eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER));
+        profiler.end(FrameProfiler.Probe.ENGINE);
         soundManager.playRotate();
-        brickRenderer.refreshBrick(result);
+        renderBrick(result);
     }
 
     public void handleGhostToggle() {
-        brickRenderer.toggleGhost();
+        renderer.toggleGhost();
+    }
+
+    /**
+     * Shows or hides the debug HUD with frame timings.
+     */
+    public void handleDebugHudToggle() {
+        if (debugHud != null) {
+            debugHud.toggle();
+        }
     }
 
     public void handleNewGame() {
@@ -416,7 +423,7 @@ public class GuiController implements Initializable {
         togglePause();
     }
 
-    public void bindScore(IntegerProperty integerProperty) {
+    public void bindScore(ReadOnlyIntegerProperty integerProperty) {
         if (scoreLabel != null) {
             scoreLabel.textProperty().bind(integerProperty.asString());
         }
@@ -429,17 +436,21 @@ public class GuiController implements Initializable {
      * @param board The current 2D game board matrix
      */
     public void refreshGameBackground(int[][] board) {
-        boardRenderer.refreshGameBackground(board);
+        profiler.begin(FrameProfiler.Probe.RENDER);
+        renderer.refreshBackground(board);
+        profiler.end(FrameProfiler.Probe.RENDER);
     }
 
     /**
      * Updates lava visual display for Lava Survival mode (Level 2).
-     * Renders lava rows with bright orange color and proper effects.
+     * Draws the lava as one layer covering the top rows of the board.
      *
-     * @param lavaRows Array of row indices currently occupied by lava
+     * @param lavaDepth Number of board rows covered by lava
      */
-    public void updateLavaDisplay(int[] lavaRows) {
-        lavaDisplayManager.updateLavaDisplay(lavaRows);
+    public void updateLavaDisplay(int lavaDepth) {
+        profiler.begin(FrameProfiler.Probe.RENDER);
+        renderer.updateLava(lavaDepth);
+        profiler.end(FrameProfiler.Probe.RENDER);
     }
 
     /**
@@ -464,7 +475,6 @@ public class GuiController implements Initializable {
         soundManager.playGameOver();
         soundManager.stopBackgroundMusic();
 
-        timeLine.stop();
         if (gameTimer != null) {
             gameTimer.stop();
         }
@@ -488,7 +498,6 @@ public class GuiController implements Initializable {
      * @param actionEvent The action event (can be null when called programmatically)
      */
     public void newGame(ActionEvent actionEvent) {
-        timeLine.stop();
         if (gameTimer != null) {
             gameTimer.stop();
         }
@@ -498,7 +507,6 @@ public class GuiController implements Initializable {
         eventListener.createNewGame();
 
         gamePanel.requestFocus();
-        timeLine.play();
         if (gameTimer != null) {
             gameTimer.start();
         }
@@ -522,46 +530,26 @@ public class GuiController implements Initializable {
      * @param levelName The display name of the next level
      */
     public void showLevelUp(String levelName) {
-        timeLine.pause();
         if (gameTimer != null) {
             gameTimer.pause();
         }
 
-        LevelUpNotification notification = new LevelUpNotification(levelName);
-
         HBox root = (HBox) gamePanel.getScene().getRoot();
-        StackPane fullScreenOverlay = new StackPane();
-        fullScreenOverlay.setStyle("-fx-background-color: rgba(0, 0, 0, 0.85);");
-        fullScreenOverlay.setAlignment(Pos.CENTER);
-
-        fullScreenOverlay.prefWidthProperty().bind(root.widthProperty());
-        fullScreenOverlay.prefHeightProperty().bind(root.heightProperty());
-
-        fullScreenOverlay.getChildren().add(notification);
-        fullScreenOverlay.setManaged(true);  // ADD THIS
-        fullScreenOverlay.setVisible(true);   // ADD THIS
-        root.getChildren().add(fullScreenOverlay);
-
-        PauseTransition pause = new PauseTransition(Duration.seconds(5));
-        pause.setOnFinished(e -> {
-            root.getChildren().remove(fullScreenOverlay);
-
+        notificationLayer.showLevelUp(root, levelName, () -> {
             if (levelName.contains("LAVA")) {
-                lavaDisplayManager.setLavaBackground(true);
+                renderer.setLavaBackground(true);
             } else {
-                lavaDisplayManager.setLavaBackground(false);
+                renderer.setLavaBackground(false);
             }
 
             if (!levelName.contains("TARGET")) {
                 targetChallengeUI.hide();
             }
 
-            timeLine.play();
             if (gameTimer != null) {
                 gameTimer.resume();
             }
         });
-        pause.play();
     }
 
     private void togglePause() {
@@ -572,7 +560,6 @@ public class GuiController implements Initializable {
         isPause.setValue(!isPause.getValue());
 
         if (isPause.getValue()) {
-            timeLine.pause();
             if (gameTimer != null) {
                 gameTimer.pause();
             }
@@ -606,7 +593,6 @@ public class GuiController implements Initializable {
         }
 
 
-        timeLine.play();
         if (gameTimer != null) {
             gameTimer.resume();
         }
@@ -629,6 +615,11 @@ public class GuiController implements Initializable {
     }
 
     private void returnToMenu() {
+        // The sound manager is shared by every game scene, so only stop the music
+        soundManager.stopBackgroundMusic();
+        if (debugHud != null) {
+            debugHud.close();
+        }
         if (stage != null && menuController != null) {
             stage.setScene(menuController.getMenuScene());
         }
@@ -0,0 +1,83 @@
+package com.comp2042.view.GUI;
+
+import com.comp2042.constants.GameConstants;
+
+/**
+ * Interpolated height of the lava layer.
+ * The lava depth changes in whole rows on game ticks; this eases the drawn
+ * height from the old depth to the new one over a fixed number of ticks,
+ * measured in interpolated game time (ticks plus the loop's alpha). The
+ * descent therefore moves smoothly at any frame rate and stops while the
+ * game loop is paused.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class LavaDescent {
+
+    /** Length of one descent, about 300 ms of game time. */
+    public static final double DESCENT_TICKS = 300_000_000.0 / GameConstants.GAME_TICK_NANOS;
+
+    private double fromHeight;
+    private double toHeight;
+    private double startTicks;
+    private double lastTicks;
+
+    /**
+     * Starts easing towards a new height from the height drawn at the last frame.
+     *
+     * @param height Target height in pixels
+     */
+    public void setTarget(double height) {
+        if (height == toHeight) return;
+        fromHeight = heightAt(lastTicks);
+        toHeight = height;
+        startTicks = lastTicks;
+    }
+
+    /**
+     * Shows a height at once, without easing, e.g. when the lava is cleared.
+     *
+     * @param height Height in pixels
+     */
+    public void jumpTo(double height) {
+        fromHeight = toHeight = height;
+        startTicks = lastTicks;
+    }
+
+    /**
+     * Moves to the given game time.
+     *
+     * @param gameTicks Interpolated game time in ticks
+     * @return true if the drawn height changed since the previous frame
+     */
+    public boolean advance(double gameTicks) {
+        double before = heightAt(lastTicks);
+        lastTicks = gameTicks;
+        return heightAt(gameTicks) != before;
+    }
+
+    /**
+     * @return Height to draw at the current game time
+     */
+    public double getHeight() {
+        return heightAt(lastTicks);
+    }
+
+    /**
+     * @return Height the lava is easing towards
+     */
+    public double getTargetHeight() {
+        return toHeight;
+    }
+
+    private double heightAt(double gameTicks) {
+        double t = (gameTicks - startTicks) / DESCENT_TICKS;
+        if (t >= 1) return toHeight;
+        if (t <= 0) return fromHeight;
+        // Ease out so the lava settles softly on its new row
+        double eased = 1 - (1 - t) * (1 - t);
+        return fromHeight + (toHeight - fromHeight) * eased;
+    }
+}
@@ -0,0 +1,137 @@
+package com.comp2042.view.GUI;
+
+import com.comp2042.constants.GameConstants;
+import com.comp2042.view.Palette;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Manages visual display of lava in Lava Survival mode.
+ * Draws the lava as a single overlay rectangle above the board cells, sized from the lava depth,
+ * so a lava update changes one node instead of restyling every covered cell.
+ * The overlay grows with the interpolated game time of each frame, see {@link LavaDescent},
+ * and is recolored on the next frame after a theme switch.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class LavaDisplayManager {
+
+    private static final int CELL_PITCH = GameConstants.BRICK_SIZE + 1;
+    private static final int HIDDEN_ROWS = 2;
+
+    private final GridPane gamePanel;
+    private final Rectangle overlay;
+    private final int boardRows;
+    private final LavaDescent descent = new LavaDescent();
+    private Palette palette;
+    private int shownDepth = 0;
+    private boolean isLavaMode = false;
+
+    /**
+     * Creates a LavaDisplayManager and adds its overlay to the given pane.
+     * The overlay is not moved afterwards, so layers added later, like the brick, stay above it.
+     *
+     * @param gamePanel The main game GridPane
+     * @param overlayPane Pane holding the board, where the lava overlay is added above it
+     * @param boardRows Number of rows in the board matrix, including hidden rows
+     * @param boardColumns Number of columns in the board matrix
+     */
+    public LavaDisplayManager(GridPane gamePanel, Pane overlayPane, int boardRows, int boardColumns) {
+        this.gamePanel = gamePanel;
+        this.boardRows = boardRows;
+
+        overlay = new Rectangle(boardColumns * CELL_PITCH - 1, 0);
+        overlay.layoutXProperty().bind(gamePanel.layoutXProperty());
+        overlay.layoutYProperty().bind(gamePanel.layoutYProperty());
+        overlay.setArcWidth(9);
+        overlay.setArcHeight(9);
+        overlay.setMouseTransparent(true);
+        overlay.setVisible(false);
+        overlayPane.getChildren().add(overlay);
+    }
+
+    /**
+     * Updates the lava overlay to cover the given number of rows from the top.
+     * The overlay grows to its new height over the next frames, see {@link #onFrame(double)}.
+     *
+     * @param lavaDepth Number of board rows covered by lava, 0 for none
+     */
+    public void updateLavaDisplay(int lavaDepth) {
+        if (lavaDepth == shownDepth) return;
+        shownDepth = lavaDepth;
+        applyPalette();
+
+        double height = overlayHeight(lavaDepth, boardRows);
+        if (height <= 0) {
+            descent.jumpTo(0);
+            overlay.setHeight(0);
+            overlay.setVisible(false);
+            return;
+        }
+        overlay.setVisible(true);
+        descent.setTarget(height);
+    }
+
+    /**
+     * Sets the overlay height for the interpolated game time of this frame.
+     *
+     * @param gameTicks Game ticks run so far plus the loop's interpolation factor
+     */
+    public void onFrame(double gameTicks) {
+        if (palette != Palette.current()) {
+            applyPalette();
+        }
+        if (descent.advance(gameTicks)) {
+            overlay.setHeight(descent.getHeight());
+        }
+    }
+
+    /**
+     * Colors the overlay from the active palette and remembers it, so a theme switch is picked up.
+     */
+    private void applyPalette() {
+        palette = Palette.current();
+        overlay.setFill(palette.lava());
+        overlay.setStroke(palette.lavaGlow());
+    }
+
+    /**
+     * Computes the overlay height for a lava depth, skipping the hidden spawn rows.
+     *
+     * @param lavaDepth Number of board rows covered by lava
+     * @param boardRows Number of rows in the board matrix
+     * @return Height in pixels, 0 when no visible row is covered
+     */
+    static double overlayHeight(int lavaDepth, int boardRows) {
+        int visibleRows = Math.min(lavaDepth, boardRows) - HIDDEN_ROWS;
+        return visibleRows > 0 ? visibleRows * CELL_PITCH - 1 : 0;
+    }
+
+    /**
+     * Sets the background tint for lava mode atmosphere.
+     * Applies subtle dark red tint when active.
+     *
+     * @param lavaActive true to apply lava background, false for normal
+     */
+    public void setLavaBackground(boolean lavaActive) {
+        this.isLavaMode = lavaActive;
+
+        if (lavaActive) {
+            gamePanel.setStyle("-fx-background-color: rgba(40, 10, 10, 0.6);");
+        } else {
+            gamePanel.setStyle("-fx-background-color: transparent;");
+        }
+    }
+
+    /**
+     * Checks if lava mode is currently active.
+     *
+     * @return true if lava mode is active
+     */
+    public boolean isLavaMode() {
+        return isLavaMode;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.comp2042.view.GUI;
+
+import com.comp2042.Data.FrameSnapshot;
+import com.comp2042.constants.GameConstants;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
+
+/**
+ * Renders the game with one Rectangle node per cell.
+ * Combines the board, brick and lava renderers behind the GameRenderer interface.
+ * The lava overlay lies over the board cells and under the ghost and falling brick.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class NodeGameRenderer implements GameRenderer {
+
+    private static final int BRICK_SIZE = GameConstants.BRICK_SIZE;
+
+    private final GridPane gamePanel;
+    private final GridPane brickPanel;
+    private GameBoardRenderer boardRenderer;
+    private BrickRenderer brickRenderer;
+    private LavaDisplayManager lavaDisplayManager;
+
+    /**
+     * Creates a node renderer on the given panels.
+     *
+     * @param gamePanel The GridPane where the board cells are added
+     * @param brickPanel The GridPane holding the falling brick
+     */
+    public NodeGameRenderer(GridPane gamePanel, GridPane brickPanel) {
+        this.gamePanel = gamePanel;
+        this.brickPanel = brickPanel;
+    }
+
+    @Override
+    public void initialize(int[][] boardMatrix, FrameSnapshot brick) {
+        boardRenderer = new GameBoardRenderer(gamePanel);
+        boardRenderer.initializeBoard(boardMatrix);
+
+        // Stack the layers over the board: lava, then the ghost, then the falling brick
+        Pane boardPane = (Pane) brickPanel.getParent();
+        lavaDisplayManager = new LavaDisplayManager(gamePanel, boardPane,
+                boardMatrix.length, boardMatrix[0].length);
+
+        brickRenderer = new BrickRenderer(gamePanel, brickPanel, boardPane);
+        brickRenderer.initializeBrickDisplay(brick.getShape());
+        brickPanel.toFront();
+
+        brickPanel.setLayoutX(gamePanel.getLayoutX() + brick.getxPosition() * brickPanel.getVgap()
+                + brick.getxPosition() * BRICK_SIZE);
+        brickPanel.setLayoutY(-42 + gamePanel.getLayoutY() + brick.getyPosition() * brickPanel.getHgap()
+                + brick.getyPosition() * BRICK_SIZE);
+    }
+
+    @Override
+    public void refreshBackground(int[][] board) {
+        boardRenderer.refreshGameBackground(board);
+    }
+
+    @Override
+    public void refreshBrick(FrameSnapshot brick) {
+        brickRenderer.refreshBrick(brick);
+    }
+
+    @Override
+    public void updateLava(int lavaDepth) {
+        lavaDisplayManager.updateLavaDisplay(lavaDepth);
+    }
+
+    @Override
+    public void onFrame(double gameTicks) {
+        boardRenderer.refreshPalette();
+        brickRenderer.refreshPalette();
+        lavaDisplayManager.onFrame(gameTicks);
+    }
+
+    @Override
+    public void setLavaBackground(boolean lavaActive) {
+        lavaDisplayManager.setLavaBackground(lavaActive);
+    }
+
+    @Override
+    public void toggleGhost() {
+        brickRenderer.toggleGhost();
+    }
+
+    @Override
+    public boolean isGhostShown() {
+        return brickRenderer.isGhostShown();
+    }
+}
@@ -1,6 +1,5 @@
 package com.comp2042.view.GUI;
 
-import javafx.animation.AnimationTimer;
 import javafx.scene.control.Label;
 import javafx.scene.layout.VBox;
 import com.comp2042.controller.GameController;
@@ -21,7 +20,7 @@ public class TargetChallengeUI {
     private final Label targetBlocksLabel;
     private final Label timerLabel;
     private boolean isActive = false;
-    private AnimationTimer timer;
+    private long lastUpdate = 0;
     private GameController gameController;
 
     /**
@@ -77,10 +76,6 @@ public class TargetChallengeUI {
         if (missionLabel != null && mission != null) {
             missionLabel.setText(mission.getName());
         }
-
-        if (timer == null) {
-            startTimer();
-        }
     }
 
     /**
@@ -92,43 +87,25 @@ public class TargetChallengeUI {
             targetChallengeContainer.setVisible(false);
             targetChallengeContainer.setManaged(false);
         }
-        stopTimer();
     }
 
     /**
-     * Starts the animation timer for real-time countdown updates.
+     * Refreshes the countdown label at most once per second.
+     * Called on every frame of the game loop, so no separate timer is needed.
+     *
+     * @param now Frame timestamp in nanoseconds
      */
-    private void startTimer() {
-        timer = new AnimationTimer() {
-            private long lastUpdate = 0;
-
-            @Override
-            public void handle(long now) {
-                if (now - lastUpdate >= 1_000_000_000) {
-                    if (isActive && gameController != null) {
-                        if (gameController.getBoard().getTargetChallengeManager().isActive()) {
-                            String time = gameController.getBoard()
-                                    .getTargetChallengeManager().getFormattedTime();
-                            if (timerLabel != null) {
-                                timerLabel.setText("Time: " + time);
-                            }
-                        }
-                    }
-                    lastUpdate = now;
-                }
+    public void onFrame(long now) {
+        if (!isActive || now - lastUpdate < 1_000_000_000) {
+            return;
+        }
+        if (gameController != null && gameController.getBoard().getTargetChallengeManager().isActive()) {
+            String time = gameController.getBoard().getTargetChallengeManager().getFormattedTime();
+            if (timerLabel != null) {
+                timerLabel.setText("Time: " + time);
             }
-        };
-        timer.start();
-    }
-
-    /**
-     * Stops the animation timer.
-     */
-    private void stopTimer() {
-        if (timer != null) {
-            timer.stop();
-            timer = null;
         }
+        lastUpdate = now;
     }
 
     /**
@@ -0,0 +1,155 @@
+package com.comp2042.view;
+
+import com.comp2042.constants.GameConstants;
+import com.comp2042.model.game.FixedTimestepLoop;
+import javafx.animation.AnimationTimer;
+
+/**
+ * Game timer for automatic brick falling at regular intervals.
+ * Drives a {@link FixedTimestepLoop} from a single AnimationTimer pulse:
+ * each pulse feeds the frame time into the loop, the loop runs whole ticks,
+ * and gravity fires every fixed number of ticks. After the ticks an optional
+ * frame handler is called with the interpolation factor, so rendering runs
+ * once per pulse independently of the tick rate.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class GameTimer {
+
+    private final FixedTimestepLoop loop;
+    private final AnimationTimer pulse;
+    private final MoveHandler moveHandler;
+    private final int gravityTicks;
+    private int ticksUntilGravity;
+    private FrameHandler frameHandler;
+    private Runnable tickHandler;
+    private boolean running;
+
+    /**
+     * Interface for handling timer-triggered moves.
+     */
+    public interface MoveHandler {
+        void onTimerTick();
+    }
+
+    /**
+     * Interface for per-frame work such as rendering.
+     */
+    public interface FrameHandler {
+        /**
+         * @param now Frame timestamp in nanoseconds
+         * @param alpha Fraction of the next tick already elapsed, for interpolation
+         */
+        void onFrame(long now, double alpha);
+    }
+
+    /**
+     * Creates a new GameTimer with its own game loop.
+     *
+     * @param fallSpeedMs Time between automatic drops in milliseconds
+     * @param handler Handler for timer events
+     */
+    public GameTimer(int fallSpeedMs, MoveHandler handler) {
+        this(new FixedTimestepLoop(GameConstants.GAME_TICK_NANOS), fallSpeedMs, handler);
+    }
+
+    /**
+     * Creates a new GameTimer driving the given game loop.
+     * The same loop should be the board's clock, so gravity, lava and
+     * the challenge countdown share one time source.
+     *
+     * @param loop Game loop to drive
+     * @param fallSpeedMs Time between automatic drops in milliseconds
+     * @param handler Handler for timer events
+     */
+    public GameTimer(FixedTimestepLoop loop, int fallSpeedMs, MoveHandler handler) {
+        this.loop = loop;
+        this.moveHandler = handler;
+        this.gravityTicks = (int) Math.max(1, Math.round(fallSpeedMs * 1_000_000.0 / loop.getTickNanos()));
+        this.ticksUntilGravity = gravityTicks;
+        loop.setTickHandler(this::onTick);
+        this.pulse = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                loop.advance(now);
+                if (frameHandler != null) {
+                    frameHandler.onFrame(now, loop.getAlpha());
+                }
+            }
+        };
+    }
+
+    /**
+     * Sets the handler called once per frame after the ticks have run.
+     *
+     * @param frameHandler Frame handler, or null for none
+     */
+    public void setFrameHandler(FrameHandler frameHandler) {
+        this.frameHandler = frameHandler;
+    }
+
+    /**
+     * Sets the handler called on every game tick before gravity, e.g. for held-key repeats.
+     *
+     * @param tickHandler Tick handler, or null for none
+     */
+    public void setTickHandler(Runnable tickHandler) {
+        this.tickHandler = tickHandler;
+    }
+
+    private void onTick() {
+        if (tickHandler != null) {
+            tickHandler.run();
+        }
+        if (--ticksUntilGravity <= 0) {
+            ticksUntilGravity = gravityTicks;
+            moveHandler.onTimerTick();
+        }
+    }
+
+    /**
+     * Starts the timer with a full gravity period before the first drop.
+     */
+    public void start() {
+        ticksUntilGravity = gravityTicks;
+        resume();
+    }
+
+    /**
+     * Stops the timer.
+     */
+    public void stop() {
+        pause();
+    }
+
+    /**
+     * Pauses the timer. Game time does not advance until resumed.
+     */
+    public void pause() {
+        pulse.stop();
+        loop.resetFrameTime();
+        running = false;
+    }
+
+    /**
+     * Resumes the timer after pause.
+     */
+    public void resume() {
+        loop.resetFrameTime();
+        pulse.start();
+        running = true;
+    }
+
+    /**
+     * Checks if timer is currently running.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    public FixedTimestepLoop getLoop() {
+        return loop;
+    }
+}
@@ -20,11 +20,11 @@ public class HighScoreScreen extends VBox {
     private Button backButton;
 
     /**
-     * Constructs high score screen and loads scores from manager.
+     * Constructs high score screen from the shared, already loaded score store.
      * Displays top score prominently with gold styling.
      */
     public HighScoreScreen() {
-        scoreManager = new HighScoreManager();
+        scoreManager = HighScoreManager.getDefault();
 
         setAlignment(Pos.CENTER);
         setSpacing(15);
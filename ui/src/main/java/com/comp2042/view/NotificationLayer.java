@@ -0,0 +1,132 @@
+package com.comp2042.view;
+
+import javafx.animation.PauseTransition;
+import javafx.geometry.Pos;
+import javafx.scene.Group;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
+import javafx.util.Duration;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reusable layer for score and level-up notifications.
+ * Score panels come from a small pre-built pool and go back to it when their
+ * animation ends; when every panel is on screen the oldest one is restarted with
+ * the new text, which caps how many notifications overlap. The full-screen
+ * level-up overlay and one notification per level are built once and reused.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class NotificationLayer {
+
+    /** Default number of score notifications that may be on screen at once. */
+    public static final int DEFAULT_CAPACITY = 3;
+
+    private static final Duration LEVEL_UP_DURATION = Duration.seconds(5);
+
+    private final Group group;
+    private final ArrayDeque<NotificationPanel> idle = new ArrayDeque<>();
+    private final ArrayDeque<NotificationPanel> active = new ArrayDeque<>();
+
+    private final Map<String, LevelUpNotification> levelUpNotifications = new HashMap<>();
+    private StackPane levelUpOverlay;
+    private PauseTransition levelUpTimer;
+
+    /**
+     * Creates a layer with the default capacity.
+     *
+     * @param group Group the score notifications are shown in
+     */
+    public NotificationLayer(Group group) {
+        this(group, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a layer and pre-builds its score panels.
+     *
+     * @param group Group the score notifications are shown in
+     * @param capacity Maximum number of score notifications on screen
+     * @throws IllegalArgumentException if capacity is less than 1
+     */
+    public NotificationLayer(Group group, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        this.group = group;
+        for (int i = 0; i < capacity; i++) {
+            idle.add(new NotificationPanel(""));
+        }
+    }
+
+    /**
+     * Shows a score bonus, reusing an idle panel or the oldest visible one.
+     *
+     * @param text Text to display, e.g. "+200"
+     */
+    public void showScore(String text) {
+        NotificationPanel panel = idle.poll();
+        if (panel == null) {
+            panel = active.poll();
+            panel.cancel();
+            group.getChildren().remove(panel);
+        }
+        active.add(panel);
+
+        panel.setText(text);
+        group.getChildren().add(panel);
+        NotificationPanel shown = panel;
+        panel.play(() -> release(shown));
+    }
+
+    /**
+     * Shows the full-screen level-up notification over the given root.
+     *
+     * @param root Scene root to cover
+     * @param levelName Name of the next level
+     * @param onFinished Called after the overlay is removed
+     */
+    public void showLevelUp(Pane root, String levelName, Runnable onFinished) {
+        if (levelUpOverlay == null) {
+            levelUpOverlay = new StackPane();
+            levelUpOverlay.setStyle("-fx-background-color: rgba(0, 0, 0, 0.85);");
+            levelUpOverlay.setAlignment(Pos.CENTER);
+            levelUpTimer = new PauseTransition(LEVEL_UP_DURATION);
+        }
+        levelUpTimer.stop();
+
+        levelUpOverlay.prefWidthProperty().bind(root.widthProperty());
+        levelUpOverlay.prefHeightProperty().bind(root.heightProperty());
+        levelUpOverlay.getChildren().setAll(
+                levelUpNotifications.computeIfAbsent(levelName, LevelUpNotification::new));
+        if (levelUpOverlay.getParent() != root) {
+            root.getChildren().add(levelUpOverlay);
+        }
+
+        levelUpTimer.setOnFinished(e -> {
+            root.getChildren().remove(levelUpOverlay);
+            onFinished.run();
+        });
+        levelUpTimer.playFromStart();
+    }
+
+    /**
+     * Gets the number of score notifications currently on screen.
+     *
+     * @return Active panel count
+     */
+    public int getActiveCount() {
+        return active.size();
+    }
+
+    private void release(NotificationPanel panel) {
+        group.getChildren().remove(panel);
+        if (active.remove(panel)) {
+            idle.add(panel);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.comp2042.view;
+
+import javafx.animation.FadeTransition;
+import javafx.animation.ParallelTransition;
+import javafx.animation.TranslateTransition;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.effect.Effect;
+import javafx.scene.effect.Glow;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.paint.Color;
+import javafx.util.Duration;
+
+
+/**
+ * Animated notification panel for displaying score bonuses and achievements.
+ * Features fade-out and slide-up animations with glow effects.
+ * The label and animation are built once, so a panel can be replayed with new text
+ * by a {@link NotificationLayer} instead of being recreated.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class NotificationPanel extends BorderPane {
+
+    private final Label score;
+    private final TranslateTransition slide;
+    private final ParallelTransition transition;
+    private Runnable onFinished;
+
+    public NotificationPanel(String text) {
+        setMinHeight(200);
+        setMinWidth(220);
+        score = new Label(text);
+        score.getStyleClass().add("bonusStyle");
+        final Effect glow = new Glow(0.6);
+        score.setEffect(glow);
+        score.setTextFill(Color.WHITE);
+        setCenter(score);
+
+        FadeTransition ft = new FadeTransition(Duration.millis(2000), this);
+        ft.setFromValue(1);
+        ft.setToValue(0);
+        slide = new TranslateTransition(Duration.millis(2500), this);
+        transition = new ParallelTransition(slide, ft);
+        transition.setOnFinished(event -> {
+            Runnable callback = onFinished;
+            onFinished = null;
+            if (callback != null) {
+                callback.run();
+            }
+        });
+    }
+
+    /**
+     * Displays notification with animation and auto-removes after completion.
+     *
+     * @param list Observable list to remove notification from after animation
+     */
+    public void showScore(ObservableList<Node> list) {
+        play(() -> list.remove(NotificationPanel.this));
+    }
+
+    /**
+     * Replaces the text shown by this panel.
+     *
+     * @param text New notification text
+     */
+    public void setText(String text) {
+        score.setText(text);
+    }
+
+    /**
+     * Plays the fade and slide animation from the start.
+     *
+     * @param onFinished Called once when the animation completes, may be null
+     */
+    public void play(Runnable onFinished) {
+        transition.stop();
+        setOpacity(1);
+        setTranslateY(0);
+        slide.setToY(getLayoutY() - 40);
+        this.onFinished = onFinished;
+        transition.playFromStart();
+    }
+
+    /**
+     * Stops the animation without running its completion callback.
+     */
+    public void cancel() {
+        onFinished = null;
+        transition.stop();
+    }
+}
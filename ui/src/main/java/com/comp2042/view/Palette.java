@@ -0,0 +1,131 @@
+package com.comp2042.view;
+
+import javafx.scene.paint.Color;
+
+/**
+ * Pre-built, immutable color tables for one theme.
+ * Renderers look colors up by color code, so styling a cell never creates a Color.
+ * The active palette is chosen by the {@value #THEME_PROPERTY} system property
+ * and can be switched at runtime with {@link #setTheme(Theme)}.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public final class Palette {
+
+    /** System property naming the starting theme, e.g. {@code HIGH_CONTRAST}. */
+    public static final String THEME_PROPERTY = "cw2025.theme";
+
+    /** Opacity of ghost brick cells. */
+    public static final double GHOST_OPACITY = 0.4;
+
+    /** Resolved on first use, so Theme can build palettes during its own initialization. */
+    private static volatile Palette current;
+
+    private final Theme theme;
+    private final Color[] cells;
+    private final Color[] ghostCells;
+    private final Color lava;
+    private final Color lavaGlow;
+    private final Color unknown = Color.WHITE;
+    private final Color unknownGhost = Color.WHITE.deriveColor(0, 1, 1, GHOST_OPACITY);
+
+    /**
+     * Builds the tables for a theme. Called once per theme by {@link Theme}.
+     *
+     * @param theme Owning theme
+     * @param cells Cell colors indexed by color code, code 0 being empty
+     * @param lava Lava row color
+     * @param lavaGlow Lava highlight color
+     */
+    Palette(Theme theme, Color[] cells, Color lava, Color lavaGlow) {
+        this.theme = theme;
+        this.cells = cells.clone();
+        this.ghostCells = new Color[cells.length];
+        for (int i = 0; i < cells.length; i++) {
+            ghostCells[i] = cells[i].deriveColor(0, 1, 1, GHOST_OPACITY);
+        }
+        this.lava = lava;
+        this.lavaGlow = lavaGlow;
+    }
+
+    /**
+     * Gets the active palette.
+     *
+     * @return Current palette
+     */
+    public static Palette current() {
+        Palette palette = current;
+        if (palette == null) {
+            palette = initialTheme().palette();
+            current = palette;
+        }
+        return palette;
+    }
+
+    /**
+     * Switches the active palette to the given theme.
+     *
+     * @param theme Theme to use from now on
+     */
+    public static void setTheme(Theme theme) {
+        current = theme.palette();
+    }
+
+    /**
+     * Gets the color for a cell code.
+     *
+     * @param colorCode Color code, 0 for an empty cell
+     * @return Cell color, white for unknown codes
+     */
+    public Color cell(int colorCode) {
+        return colorCode >= 0 && colorCode < cells.length ? cells[colorCode] : unknown;
+    }
+
+    /**
+     * Gets the translucent ghost variant of a cell code.
+     *
+     * @param colorCode Color code of the falling brick
+     * @return Ghost color, translucent white for unknown codes
+     */
+    public Color ghost(int colorCode) {
+        return colorCode >= 0 && colorCode < ghostCells.length ? ghostCells[colorCode] : unknownGhost;
+    }
+
+    /**
+     * Gets the lava row color.
+     *
+     * @return Lava color
+     */
+    public Color lava() {
+        return lava;
+    }
+
+    /**
+     * Gets the lava highlight color.
+     *
+     * @return Lava glow color
+     */
+    public Color lavaGlow() {
+        return lavaGlow;
+    }
+
+    /**
+     * Gets the theme these tables belong to.
+     *
+     * @return Owning theme
+     */
+    public Theme getTheme() {
+        return theme;
+    }
+
+    private static Theme initialTheme() {
+        String name = System.getProperty(THEME_PROPERTY, Theme.CLASSIC.name());
+        try {
+            return Theme.valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Theme.CLASSIC;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.comp2042.view;
+
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Utility class for styling game board rectangle cells.
+ * Applies colors, opacity, and rounded corners based on block type.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public final class RectangleRenderer {
+
+    private static final double ARC_SIZE = 9;
+
+    private RectangleRenderer() {}
+
+    /**
+     * Styles a rectangle with color and rounded corners.
+     * Sets FULL OPACITY for regular bricks.
+     */
+    public static void styleRectangle(Rectangle rectangle, int colorCode) {
+        styleRectangle(rectangle, Palette.current().cell(colorCode));
+    }
+
+    /**
+     * Styles a rectangle with a palette color and rounded corners.
+     * Re-applying the same shared color or arc leaves the node untouched.
+     *
+     * @param rectangle The rectangle to style
+     * @param fill Palette color to apply
+     */
+    public static void styleRectangle(Rectangle rectangle, Paint fill) {
+        rectangle.setFill(fill);
+        rectangle.setArcHeight(ARC_SIZE);
+        rectangle.setArcWidth(ARC_SIZE);
+    }
+}
\ No newline at end of file
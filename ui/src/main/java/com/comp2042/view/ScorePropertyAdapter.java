@@ -0,0 +1,34 @@
+package com.comp2042.view;
+
+import com.comp2042.model.scoring.Score;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+/**
+ * Bridges the plain core {@link Score} to a JavaFX property for label bindings.
+ * The property follows the score through a ScoreListener; it is updated on
+ * whichever thread changes the score, which is the FX thread in the game.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public class ScorePropertyAdapter {
+
+    private final IntegerProperty property;
+
+    /**
+     * Creates an adapter that starts at the current score and follows later changes.
+     *
+     * @param score Score to follow
+     */
+    public ScorePropertyAdapter(Score score) {
+        property = new SimpleIntegerProperty(score.getScore());
+        score.addListener((oldScore, newScore) -> property.set(newScore));
+    }
+
+    public ReadOnlyIntegerProperty scoreProperty() {
+        return property;
+    }
+}
@@ -0,0 +1,53 @@
+package com.comp2042.view;
+
+import javafx.scene.paint.Color;
+
+/**
+ * Color themes for the game board.
+ * Each theme builds its Palette once, so switching themes never allocates colors.
+ *
+ * @author Tooba Nauman
+ * @version 1.0
+ * @since 2025
+ */
+public enum Theme {
+
+    /** Bold default colors. */
+    CLASSIC(new Color[] {
+            Color.TRANSPARENT,
+            Color.rgb(255, 50, 50),     // Bright Red
+            Color.rgb(50, 255, 50),     // Bright Green
+            Color.rgb(50, 150, 255),    // Bright Blue
+            Color.rgb(255, 200, 50),    // Golden Yellow
+            Color.rgb(255, 50, 255),    // Magenta
+            Color.rgb(50, 255, 255),    // Cyan
+            Color.rgb(255, 150, 50)     // Orange (for target blocks)
+    }, Color.rgb(255, 69, 0), Color.rgb(255, 140, 0)),
+
+    /** Saturated primaries with stronger separation between neighbouring codes. */
+    HIGH_CONTRAST(new Color[] {
+            Color.TRANSPARENT,
+            Color.rgb(255, 0, 0),
+            Color.rgb(0, 200, 0),
+            Color.rgb(0, 90, 255),
+            Color.rgb(255, 235, 0),
+            Color.rgb(200, 0, 200),
+            Color.rgb(0, 220, 220),
+            Color.rgb(255, 128, 0)
+    }, Color.rgb(255, 40, 0), Color.rgb(255, 170, 0));
+
+    private final Palette palette;
+
+    Theme(Color[] cells, Color lava, Color lavaGlow) {
+        this.palette = new Palette(this, cells, lava, lavaGlow);
+    }
+
+    /**
+     * Gets the pre-built palette for this theme.
+     *
+     * @return Immutable palette
+     */
+    public Palette palette() {
+        return palette;
+    }
+}
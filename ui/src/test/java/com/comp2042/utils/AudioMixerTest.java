@@ -0,0 +1,162 @@
+package com.comp2042.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the software audio mixer.
+ * Uses mixers without an output line and mixes blocks directly.
+ */
+class AudioMixerTest {
+
+    private static final int N = AudioMixer.BLOCK_FRAMES;
+
+    private static short[] constant(int length, int value) {
+        short[] samples = new short[length];
+        Arrays.fill(samples, (short) value);
+        return samples;
+    }
+
+    @Test
+    @DisplayName("A voice is mixed with its gain and frees itself when finished")
+    void testSingleVoice() {
+        AudioMixer mixer = new AudioMixer(null, 4);
+        short[] out = new short[N];
+
+        mixer.play(constant(N + 10, 1000), 0.5f, AudioMixer.PRIORITY_EFFECT, false);
+        mixer.mixBlock(out);
+        assertEquals(500, out[0]);
+        assertEquals(500, out[N - 1]);
+        assertEquals(1, mixer.getActiveVoices());
+
+        mixer.mixBlock(out);
+        assertEquals(500, out[9], "Last sample of the voice");
+        assertEquals(0, out[10], "Silence after the voice ends");
+        assertEquals(0, mixer.getActiveVoices());
+    }
+
+    @Test
+    @DisplayName("Voices are summed and clamped to the 16-bit range")
+    void testSumAndClamp() {
+        AudioMixer mixer = new AudioMixer(null, 4);
+        short[] out = new short[N];
+
+        mixer.play(constant(N, 1000), 1f, AudioMixer.PRIORITY_EFFECT, false);
+        mixer.play(constant(N, -300), 1f, AudioMixer.PRIORITY_EFFECT, false);
+        mixer.mixBlock(out);
+        assertEquals(700, out[0]);
+
+        mixer.play(constant(N, 30000), 1f, AudioMixer.PRIORITY_EFFECT, false);
+        mixer.play(constant(N, 30000), 1f, AudioMixer.PRIORITY_EFFECT, false);
+        mixer.mixBlock(out);
+        assertEquals(Short.MAX_VALUE, out[0]);
+    }
+
+    @Test
+    @DisplayName("Looping voices wrap, pause keeps position and stop ends them")
+    void testLoopPauseStop() {
+        AudioMixer mixer = new AudioMixer(null, 2);
+        short[] out = new short[N];
+        short[] ramp = new short[100];
+        for (int i = 0; i < ramp.length; i++) {
+            ramp[i] = (short) i;
+        }
+
+        long id = mixer.play(ramp, 1f, AudioMixer.PRIORITY_MUSIC, true);
+        mixer.mixBlock(out);
+        assertEquals(99, out[99]);
+        assertEquals(0, out[100], "Loop restarts");
+        assertEquals(55, out[N - 1]);
+
+        mixer.setPaused(id, true);
+        mixer.mixBlock(out);
+        assertEquals(0, out[0]);
+        mixer.setPaused(id, false);
+        mixer.mixBlock(out);
+        assertEquals(56, out[0], "Resumes where it paused");
+
+        mixer.stop(id);
+        mixer.mixBlock(out);
+        assertEquals(0, mixer.getActiveVoices());
+    }
+
+    @Test
+    @DisplayName("Full mixers steal the oldest lowest-priority voice and never the music")
+    void testVoiceStealing() {
+        AudioMixer mixer = new AudioMixer(null, 2);
+        short[] out = new short[N];
+
+        long music = mixer.play(constant(N * 4, 100), 1f, AudioMixer.PRIORITY_MUSIC, true);
+        mixer.play(constant(N * 4, 10), 1f, AudioMixer.PRIORITY_EFFECT, false);
+        mixer.mixBlock(out);
+        assertEquals(110, out[0]);
+
+        mixer.play(constant(N * 4, 20), 1f, AudioMixer.PRIORITY_EFFECT, false);
+        mixer.mixBlock(out);
+        assertEquals(120, out[0], "Newer effect replaced the older one, music kept");
+
+        mixer.setGain(music, 0f);
+        mixer.mixBlock(out);
+        assertEquals(20, out[0]);
+        assertEquals(0, mixer.getDroppedVoices());
+
+        mixer.play(constant(N, 1), 1f, 0, false);
+        mixer.mixBlock(out);
+        assertEquals(1, mixer.getDroppedVoices(), "Lower priority sound is dropped when all voices are busy");
+    }
+
+    @Test
+    @DisplayName("Triggers from several threads all reach the mixer")
+    void testConcurrentTriggers() throws InterruptedException {
+        AudioMixer mixer = new AudioMixer(null, 64);
+        short[] one = constant(N, 1);
+        int threads = 4;
+        int perThread = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    assertTrue(mixer.play(one, 1f, AudioMixer.PRIORITY_EFFECT, false) != 0);
+                }
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        short[] out = new short[N];
+        mixer.mixBlock(out);
+        assertEquals(threads * perThread, out[0]);
+        assertEquals(threads * perThread, mixer.getActiveVoices());
+    }
+
+    @Test
+    @DisplayName("A silent mixer runs and closes without an audio device")
+    void testSilentThread() throws InterruptedException {
+        AudioMixer mixer = new AudioMixer(null, 4);
+        assertFalse(mixer.hasOutput());
+        mixer.start();
+        mixer.play(constant(100, 1000), 1f, AudioMixer.PRIORITY_EFFECT, false);
+
+        long deadline = System.currentTimeMillis() + 2000;
+        while (mixer.getLatencyCount() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(1, mixer.getLatencyCount(), "Voice should be mixed by the thread");
+        assertTrue(mixer.getMeanLatencyMillis() >= 0);
+        assertDoesNotThrow(mixer::close);
+    }
+}
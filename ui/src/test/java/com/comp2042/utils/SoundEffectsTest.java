@@ -0,0 +1,82 @@
+package com.comp2042.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the preloaded sound effect engine.
+ * Effects play on a silent mixer, so no audio device is needed.
+ */
+class SoundEffectsTest {
+
+    @Test
+    @DisplayName("Synthesized tone has the requested length and stays in range")
+    void testSynthesize() {
+        byte[] tone = SoundEffects.synthesize(440, 880, 100);
+
+        assertEquals(4410 * 2, tone.length, "100 ms of 16-bit mono at 44.1 kHz");
+        int peak = 0;
+        for (int i = 0; i < tone.length; i += 2) {
+            short sample = (short) ((tone[i] & 0xFF) | (tone[i + 1] << 8));
+            peak = Math.max(peak, Math.abs(sample));
+        }
+        assertTrue(peak > 1000, "Tone should be audible");
+        assertTrue(peak < Short.MAX_VALUE / 2, "Tone should leave headroom for overlapping effects");
+    }
+
+    @Test
+    @DisplayName("Every effect has samples after preloading, even without WAV files")
+    void testPreloadDecodesAllEffects() {
+        AudioMixer mixer = new AudioMixer(null, 4);
+        SoundEffects effects = new SoundEffects(mixer);
+        assertNull(effects.getSamples(SoundEffect.MOVE), "No samples before loading");
+
+        effects.preload();
+
+        assertTrue(effects.isReady());
+        for (SoundEffect effect : SoundEffect.values()) {
+            byte[] samples = effects.getSamples(effect);
+            assertNotNull(samples, effect + " should be decoded");
+            assertEquals(0, samples.length % 2);
+            assertTrue(samples.length > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Playing before, during and after loading never throws")
+    void testPlayIsSafe() {
+        AudioMixer mixer = new AudioMixer(null, 1);
+        SoundEffects effects = new SoundEffects(mixer);
+        assertDoesNotThrow(() -> effects.play(SoundEffect.ROTATE));
+
+        effects.preload();
+        assertDoesNotThrow(() -> {
+            for (int i = 0; i < 5; i++) {
+                effects.play(SoundEffect.MOVE);
+            }
+            effects.play(SoundEffect.GAME_OVER);
+        });
+        assertDoesNotThrow(() -> mixer.mixBlock(new short[AudioMixer.BLOCK_FRAMES]));
+        assertEquals(1, mixer.getActiveVoices(), "Only one voice available");
+        assertTrue(mixer.getLatencyCount() > 0, "Started voice should record its latency");
+        mixer.close();
+        assertDoesNotThrow(() -> effects.play(SoundEffect.DROP));
+    }
+
+    @Test
+    @DisplayName("Disabled effects are skipped")
+    void testDisabled() {
+        AudioMixer mixer = new AudioMixer(null, 4);
+        SoundEffects effects = new SoundEffects(mixer);
+        effects.setEnabled(false);
+        effects.preload();
+
+        effects.play(SoundEffect.LINE_CLEAR);
+        mixer.mixBlock(new short[AudioMixer.BLOCK_FRAMES]);
+        assertFalse(effects.isEnabled());
+        assertEquals(0, mixer.getActiveVoices());
+        assertEquals(0, effects.getLatencyCount());
+    }
+}
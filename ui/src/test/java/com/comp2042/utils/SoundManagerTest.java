@@ -26,6 +26,7 @@ public class SoundManagerTest {
         // Clean up after each test
         if (soundManager != null) {
             soundManager.stopBackgroundMusic();
+            soundManager.close();
         }
     }
 
@@ -195,4 +196,11 @@ public class SoundManagerTest {
             soundManager.pauseBackgroundMusic();
         }, "Pause without start should be handled safely");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test shared manager is reused across game scenes")
+    void testSharedManager() {
+        assertSame(SoundManager.getDefault(), SoundManager.getDefault(),
+                "Every game scene should play through the same mixer");
+    }
+}
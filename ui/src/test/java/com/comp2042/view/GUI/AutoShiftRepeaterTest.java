@@ -0,0 +1,101 @@
+package com.comp2042.view.GUI;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutoShiftRepeaterTest {
+
+    private static int ticks(AutoShiftRepeater repeater, int count) {
+        for (int i = 0; i < count; i++) {
+            repeater.tick();
+        }
+        return repeater.drainShift();
+    }
+
+    @Test
+    @DisplayName("A tap shifts once immediately")
+    void testTap() {
+        AutoShiftRepeater repeater = new AutoShiftRepeater(10, 2);
+
+        assertTrue(repeater.press(-1));
+        assertEquals(-1, repeater.drainShift());
+        repeater.release(-1);
+        assertEquals(0, ticks(repeater, 30));
+    }
+
+    @Test
+    @DisplayName("OS key repeat does not add shifts")
+    void testOsRepeatIgnored() {
+        AutoShiftRepeater repeater = new AutoShiftRepeater(10, 2);
+
+        repeater.press(1);
+        assertFalse(repeater.press(1));
+        assertFalse(repeater.press(1));
+        assertEquals(1, repeater.drainShift());
+    }
+
+    @Test
+    @DisplayName("Held key repeats after the delay at the repeat rate")
+    void testDelayAndRepeat() {
+        AutoShiftRepeater repeater = new AutoShiftRepeater(10, 2);
+        repeater.press(1);
+        repeater.drainShift();
+
+        assertEquals(0, ticks(repeater, 9));
+        assertEquals(1, ticks(repeater, 1));
+        assertEquals(5, ticks(repeater, 10));
+    }
+
+    @Test
+    @DisplayName("Repeats of several ticks are coalesced into one batch")
+    void testCoalescing() {
+        AutoShiftRepeater repeater = new AutoShiftRepeater(0, 1);
+        repeater.press(-1);
+
+        assertEquals(-1 - 4, ticks(repeater, 4));
+    }
+
+    @Test
+    @DisplayName("Zero repeat rate slides straight to the wall")
+    void testInstantRepeat() {
+        AutoShiftRepeater repeater = new AutoShiftRepeater(3, 0);
+        repeater.press(1);
+        repeater.drainShift();
+
+        assertTrue(ticks(repeater, 3) >= 10);
+    }
+
+    @Test
+    @DisplayName("Releasing the newer key hands over to the held one")
+    void testDirectionHandover() {
+        AutoShiftRepeater repeater = new AutoShiftRepeater(2, 1);
+        repeater.press(-1);
+        repeater.press(1);
+        assertEquals(0, repeater.drainShift());
+
+        assertTrue(ticks(repeater, 3) > 0);
+        repeater.release(1);
+        assertEquals(0, ticks(repeater, 1));
+        assertTrue(ticks(repeater, 2) < 0);
+    }
+
+    @Test
+    @DisplayName("Reset releases keys and drops pending shifts")
+    void testReset() {
+        AutoShiftRepeater repeater = new AutoShiftRepeater(0, 1);
+        repeater.press(1);
+        repeater.reset();
+
+        assertEquals(0, ticks(repeater, 5));
+        assertTrue(repeater.press(1));
+    }
+
+    @Test
+    @DisplayName("Negative timings are rejected")
+    void testInvalidTimings() {
+        assertThrows(IllegalArgumentException.class, () -> new AutoShiftRepeater(-1, 2));
+        assertThrows(IllegalArgumentException.class, () -> new AutoShiftRepeater(10, -1));
+    }
+}
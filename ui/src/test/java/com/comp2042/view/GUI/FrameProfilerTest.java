@@ -0,0 +1,115 @@
+package com.comp2042.view.GUI;
+
+import com.comp2042.view.GUI.FrameProfiler.Probe;
+import com.comp2042.view.GUI.FrameProfiler.Summary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameProfilerTest {
+
+    private long time;
+    private long allocated;
+
+    private FrameProfiler newProfiler() {
+        FrameProfiler profiler = new FrameProfiler(() -> time, () -> allocated);
+        profiler.setEnabled(true);
+        return profiler;
+    }
+
+    @Test
+    @DisplayName("Nested probes record exclusive time")
+    void testNestedProbes() {
+        FrameProfiler profiler = newProfiler();
+        profiler.endFrame(0);
+
+        time = 100;
+        profiler.begin(Probe.ENGINE);
+        time = 150;
+        profiler.begin(Probe.RENDER);
+        time = 180;
+        profiler.end(Probe.RENDER);
+        time = 200;
+        profiler.end(Probe.ENGINE);
+        profiler.endFrame(16_000_000);
+
+        Summary summary = profiler.summarize(16_000_000);
+        assertEquals(70, summary.getProbeTime(Probe.ENGINE, 50));
+        assertEquals(30, summary.getProbeTime(Probe.RENDER, 50));
+        assertEquals(0, summary.getProbeTime(Probe.LAYOUT, 50));
+    }
+
+    @Test
+    @DisplayName("Frame intervals give FPS and percentiles")
+    void testFrameTimes() {
+        FrameProfiler profiler = newProfiler();
+        long now = 0;
+        profiler.endFrame(now);
+        for (int i = 0; i < 99; i++) {
+            now += 10_000_000;
+            profiler.endFrame(now);
+        }
+        now += 50_000_000;
+        profiler.endFrame(now);
+
+        Summary summary = profiler.summarize(now);
+        assertEquals(100, summary.getFrameCount());
+        assertEquals(10_000_000, summary.getFrameTime(50));
+        assertEquals(10_000_000, summary.getFrameTime(99));
+        assertEquals(50_000_000, summary.getFrameTime(100));
+        assertEquals(100 * 1e9 / 1_040_000_000L, summary.getFps(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Window keeps only the most recent frames")
+    void testWindow() {
+        FrameProfiler profiler = newProfiler();
+        long now = 0;
+        profiler.endFrame(now);
+        for (int i = 0; i < FrameProfiler.WINDOW + 50; i++) {
+            now += 5;
+            profiler.endFrame(now);
+        }
+
+        assertEquals(FrameProfiler.WINDOW, profiler.summarize(now).getFrameCount());
+    }
+
+    @Test
+    @DisplayName("Allocation rate is bytes per second since the last summary")
+    void testAllocationRate() {
+        FrameProfiler profiler = newProfiler();
+        profiler.endFrame(0);
+
+        allocated = 2_000_000;
+        assertEquals(4_000_000, profiler.summarize(500_000_000).getAllocationRate(), 1e-6);
+
+        allocated = 3_000_000;
+        assertEquals(1_000_000, profiler.summarize(1_500_000_000).getAllocationRate(), 1e-6);
+    }
+
+    @Test
+    @DisplayName("Disabled profiler records nothing")
+    void testDisabled() {
+        FrameProfiler profiler = new FrameProfiler(() -> time, () -> allocated);
+
+        profiler.endFrame(0);
+        profiler.begin(Probe.ENGINE);
+        time = 100;
+        profiler.end(Probe.ENGINE);
+        profiler.endFrame(16);
+
+        assertEquals(0, profiler.summarize(16).getFrameCount());
+    }
+
+    @Test
+    @DisplayName("Percentile uses nearest rank")
+    void testPercentile() {
+        long[] sorted = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+
+        assertEquals(5, FrameProfiler.percentile(sorted, 50));
+        assertEquals(10, FrameProfiler.percentile(sorted, 95));
+        assertEquals(1, FrameProfiler.percentile(sorted, 0));
+        assertEquals(0, FrameProfiler.percentile(new long[0], 50));
+    }
+}
@@ -0,0 +1,72 @@
+package com.comp2042.view.GUI;
+
+import com.comp2042.view.ColorMapper;
+import com.comp2042.view.Palette;
+import com.comp2042.view.Theme;
+import javafx.scene.layout.GridPane;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameBoardRendererTest {
+
+    private GameBoardRenderer renderer;
+    private int[][] board;
+
+    @BeforeEach
+    void setUp() {
+        Palette.setTheme(Theme.CLASSIC);
+        board = new int[25][10];
+        renderer = new GameBoardRenderer(new GridPane());
+        renderer.initializeBoard(board);
+    }
+
+    @AfterEach
+    void restoreTheme() {
+        Palette.setTheme(Theme.CLASSIC);
+    }
+
+    @Test
+    @DisplayName("Unchanged board restyles nothing")
+    void testUnchangedBoard() {
+        assertEquals(0, renderer.refreshGameBackground(board));
+    }
+
+    @Test
+    @DisplayName("Only changed cells are restyled")
+    void testOnlyChangedCells() {
+        board[24][0] = 3;
+        board[24][1] = 3;
+        board[23][0] = 3;
+        board[23][1] = 3;
+
+        assertEquals(4, renderer.refreshGameBackground(board));
+        assertEquals(ColorMapper.getColor(3), renderer.getDisplayMatrix()[24][1].getFill());
+        assertEquals(0, renderer.refreshGameBackground(board));
+    }
+
+    @Test
+    @DisplayName("Hidden rows are never rendered")
+    void testHiddenRowsSkipped() {
+        board[0][5] = 1;
+        board[1][5] = 1;
+
+        assertEquals(0, renderer.refreshGameBackground(board));
+    }
+
+    @Test
+    @DisplayName("Switching theme restyles every visible cell of an unchanged board once")
+    void testThemeSwitchRepaints() {
+        board[24][0] = 3;
+        renderer.refreshGameBackground(board);
+
+        Palette.setTheme(Theme.HIGH_CONTRAST);
+        assertEquals(23 * 10, renderer.refreshGameBackground(board));
+        assertSame(Theme.HIGH_CONTRAST.palette().cell(3), renderer.getDisplayMatrix()[24][0].getFill());
+        assertEquals(0, renderer.refreshGameBackground(board));
+        assertEquals(0, renderer.refreshPalette());
+    }
+}
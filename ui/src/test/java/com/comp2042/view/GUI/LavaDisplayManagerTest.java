@@ -0,0 +1,65 @@
+package com.comp2042.view.GUI;
+
+import com.comp2042.constants.GameConstants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LavaDisplayManagerTest {
+
+    private static final int PITCH = GameConstants.BRICK_SIZE + 1;
+
+    @Test
+    @DisplayName("Lava inside the hidden rows has no height")
+    void testHiddenRowsOnly() {
+        assertEquals(0, LavaDisplayManager.overlayHeight(0, 25));
+        assertEquals(0, LavaDisplayManager.overlayHeight(2, 25));
+    }
+
+    @Test
+    @DisplayName("Overlay covers the visible lava rows")
+    void testVisibleRows() {
+        assertEquals(PITCH - 1, LavaDisplayManager.overlayHeight(3, 25));
+        assertEquals(5 * PITCH - 1, LavaDisplayManager.overlayHeight(7, 25));
+    }
+
+    @Test
+    @DisplayName("Overlay never grows past the board")
+    void testClampedToBoard() {
+        assertEquals(23 * PITCH - 1, LavaDisplayManager.overlayHeight(40, 25));
+    }
+
+    @Test
+    @DisplayName("Lava eases to a new depth over game ticks, between whole ticks too")
+    void testDescentInterpolates() {
+        LavaDescent descent = new LavaDescent();
+        descent.advance(100);
+        descent.setTarget(100);
+        assertEquals(0, descent.getHeight(), "Descent starts from the drawn height");
+
+        assertTrue(descent.advance(100.5), "Height moves within a tick");
+        double early = descent.getHeight();
+        assertTrue(early > 0 && early < 100);
+        descent.advance(100 + LavaDescent.DESCENT_TICKS / 2);
+        assertTrue(descent.getHeight() > early);
+        descent.advance(100 + LavaDescent.DESCENT_TICKS);
+        assertEquals(100, descent.getHeight());
+        assertFalse(descent.advance(200), "Settled lava needs no redraw");
+    }
+
+    @Test
+    @DisplayName("Lava holds still while game time stands still and can be cleared at once")
+    void testDescentFollowsGameTime() {
+        LavaDescent descent = new LavaDescent();
+        descent.setTarget(50);
+        descent.advance(3);
+        double paused = descent.getHeight();
+        assertFalse(descent.advance(3), "No game time passed");
+        assertEquals(paused, descent.getHeight());
+
+        descent.jumpTo(0);
+        assertEquals(0, descent.getHeight());
+        assertEquals(0, descent.getTargetHeight());
+    }
+}
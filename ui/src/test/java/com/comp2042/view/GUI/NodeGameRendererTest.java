@@ -0,0 +1,42 @@
+package com.comp2042.view.GUI;
+
+import com.comp2042.model.game.SimpleBoard;
+import javafx.scene.Node;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NodeGameRendererTest {
+
+    @Test
+    @DisplayName("Lava lies over the board but under the ghost and falling brick")
+    void testLavaBelowBrick() {
+        GridPane gamePanel = new GridPane();
+        GridPane brickPanel = new GridPane();
+        BorderPane gameBoard = new BorderPane(gamePanel);
+        Pane root = new Pane(brickPanel, gameBoard);
+
+        SimpleBoard board = new SimpleBoard(25, 10, 7L);
+        board.createNewBrick();
+        NodeGameRenderer renderer = new NodeGameRenderer(gamePanel, brickPanel);
+        renderer.initialize(board.getBoardMatrix(), board.getFrameSnapshot());
+        renderer.updateLava(12);
+        renderer.refreshBrick(board.getFrameSnapshot());
+        renderer.onFrame(1_000);
+
+        List<Node> layers = root.getChildren();
+        assertEquals(4, layers.size());
+        assertSame(gameBoard, layers.get(0));
+        assertInstanceOf(Rectangle.class, layers.get(1), "Lava overlay");
+        assertTrue(layers.get(1).isVisible());
+        assertInstanceOf(GridPane.class, layers.get(2), "Ghost panel");
+        assertSame(brickPanel, layers.get(3));
+    }
+}
@@ -0,0 +1,61 @@
+package com.comp2042.view;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaletteTest {
+
+    @AfterEach
+    void restoreTheme() {
+        Palette.setTheme(Theme.CLASSIC);
+    }
+
+    @Test
+    @DisplayName("Lookups return shared color instances")
+    void testSharedInstances() {
+        Palette palette = Palette.current();
+        for (int code = 0; code <= 7; code++) {
+            assertSame(palette.cell(code), palette.cell(code));
+            assertSame(palette.ghost(code), palette.ghost(code));
+        }
+        assertSame(ColorMapper.getColor(3), ColorMapper.getColor(3));
+    }
+
+    @Test
+    @DisplayName("Ghost colors are translucent variants of cell colors")
+    void testGhostVariant() {
+        Palette palette = Theme.CLASSIC.palette();
+        Color cell = palette.cell(2);
+        Color ghost = palette.ghost(2);
+
+        assertEquals(cell.getRed(), ghost.getRed(), 1e-6);
+        assertEquals(cell.getGreen(), ghost.getGreen(), 1e-6);
+        assertEquals(cell.getBlue(), ghost.getBlue(), 1e-6);
+        assertEquals(Palette.GHOST_OPACITY, ghost.getOpacity(), 1e-6);
+    }
+
+    @Test
+    @DisplayName("Empty and unknown codes map to transparent and white")
+    void testEmptyAndUnknownCodes() {
+        Palette palette = Palette.current();
+
+        assertEquals(Color.TRANSPARENT, palette.cell(0));
+        assertEquals(Color.WHITE, palette.cell(99));
+        assertEquals(Color.WHITE, palette.cell(-1));
+    }
+
+    @Test
+    @DisplayName("Switching theme changes the active palette")
+    void testThemeSwitch() {
+        Palette.setTheme(Theme.HIGH_CONTRAST);
+
+        assertSame(Theme.HIGH_CONTRAST.palette(), Palette.current());
+        assertEquals(Theme.HIGH_CONTRAST, Palette.current().getTheme());
+        assertSame(Theme.HIGH_CONTRAST.palette().cell(1), ColorMapper.getColor(1));
+        assertNotEquals(Theme.CLASSIC.palette().lava(), Palette.current().lava());
+    }
+}
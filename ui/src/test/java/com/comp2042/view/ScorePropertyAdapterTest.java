@@ -0,0 +1,26 @@
+package com.comp2042.view;
+
+import com.comp2042.model.scoring.Score;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScorePropertyAdapterTest {
+
+    @Test
+    @DisplayName("Property starts at the current score and follows changes")
+    void testPropertyFollowsScore() {
+        Score score = new Score();
+        score.add(30);
+
+        ScorePropertyAdapter adapter = new ScorePropertyAdapter(score);
+        assertEquals(30, adapter.scoreProperty().get());
+
+        score.add(20);
+        assertEquals(50, adapter.scoreProperty().get());
+
+        score.reset();
+        assertEquals(0, adapter.scoreProperty().get());
+    }
+}